@@ -28,6 +28,7 @@
 
 import io.spine.dependency.boms.BomsPlugin
 import io.spine.dependency.build.Dokka
+import io.spine.dependency.build.Jmh
 import io.spine.dependency.build.JSpecify
 import io.spine.dependency.lib.Grpc
 import io.spine.dependency.lib.Jackson
@@ -80,6 +81,7 @@ plugins {
     protobuf
     ksp
     `module-testing`
+    jmh
 }
 apply<BomsPlugin>()
 
@@ -144,6 +146,18 @@ dependencies {
     implementation(Validation.runtime)
 }
 
+/**
+ * Benchmarks of the `io.spine.net` package reside in the `jmh` source set.
+ *
+ * Run them with `./gradlew jmh`. Besides throughput, the results include allocation
+ * rates reported by the GC profiler.
+ */
+jmh {
+    jmhVersion.set(Jmh.version)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 spinePublishing {
     destinations = setOf(
         gitHub("base-types"),
@@ -28,6 +28,7 @@
 
 import io.spine.dependency.build.ErrorProne
 import io.spine.dependency.build.GradleDoctor
+import io.spine.dependency.build.Jmh
 import io.spine.dependency.build.Ksp
 import io.spine.dependency.build.PluginPublishPlugin
 import io.spine.dependency.lib.Protobuf
@@ -160,6 +161,9 @@ val PluginDependenciesSpec.kotest: PluginDependencySpec
         return id(it.gradlePluginId).version(it.version)
     }
 
+val PluginDependenciesSpec.jmh: PluginDependencySpec
+    get() = id(Jmh.GradlePlugin.id).version(Jmh.GradlePlugin.version)
+
 val PluginDependenciesSpec.kover: PluginDependencySpec
     get() = id(Kover.id).version(Kover.version)
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding URLs and email addresses in chat-like messages with the autolink patterns
+ * and with the {@link AutolinkScanner}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutolinkScannerBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "build", "is", "green", "again,", "see", "please", "check", "logs", "—",
+            "thanks!", "ok", "(details", "below)", "deploy", "at", "5pm", "v1.2.3", "e.g.",
+            "spine.io", "https://github.com/SpineEventEngine/base/pull/42",
+            "docs.example.com/guide?page=2", "support@example.com", "192.168.1.10:8080",
+            "файл", "готов", "テスト", "完了",
+    };
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var builder = new StringBuilder();
+        for (var i = 0; i < 2_000; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)])
+                   .append(i % 17 == 16 ? '\n' : ' ');
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public void patterns(Blackhole blackhole) {
+        var urls = Patterns.AUTOLINK_WEB_URL.matcher(text);
+        while (urls.find()) {
+            blackhole.consume(urls.end());
+        }
+        var emails = Patterns.AUTOLINK_EMAIL_ADDRESS.matcher(text);
+        while (emails.find()) {
+            blackhole.consume(emails.end());
+        }
+    }
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        AutolinkScanner.scan(text, blackhole::consume);
+    }
+}
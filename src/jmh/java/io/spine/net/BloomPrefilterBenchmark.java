@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in a {@link BloomPrefilter} with lookups in a {@link HashSet}.
+ *
+ * <p>Each invocation looks up {@value #LOOKUPS} values, most of which are absent from
+ * the set, as in a suppression list. The values are copied before each invocation, so that
+ * their hash codes are not cached, as it is with values which come from outside.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BloomPrefilterBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    /** The share of looked up values which are in the set, in percent. */
+    private static final int HIT_PERCENT = 5;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private Set<String> set;
+    private BloomPrefilter filter;
+    private String[] values;
+    private String[] lookups;
+
+    @Setup
+    public void setUp() {
+        set = new HashSet<>(size * 2);
+        filter = BloomPrefilter.create(size, 0.01);
+        for (var i = 0; i < size; i++) {
+            var address = address(i);
+            set.add(address);
+            filter.put(address);
+        }
+        values = new String[LOOKUPS];
+        for (var i = 0; i < LOOKUPS; i++) {
+            var present = i % 100 < HIT_PERCENT;
+            values[i] = present ? address(i * 7 % size) : address(size + i);
+        }
+        lookups = new String[LOOKUPS];
+    }
+
+    @Setup(Level.Invocation)
+    public void copyValues() {
+        for (var i = 0; i < LOOKUPS; i++) {
+            lookups[i] = new String(values[i].toCharArray());
+        }
+    }
+
+    private static String address(int index) {
+        return "user" + index + "@mail" + index % 97 + ".example.com";
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void hashSet(Blackhole blackhole) {
+        for (var value : lookups) {
+            blackhole.consume(set.contains(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void filter(Blackhole blackhole) {
+        for (var value : lookups) {
+            blackhole.consume(filter.mightContain(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void filterThenHashSet(Blackhole blackhole) {
+        for (var value : lookups) {
+            blackhole.consume(filter.mightContain(value) && set.contains(value));
+        }
+    }
+}
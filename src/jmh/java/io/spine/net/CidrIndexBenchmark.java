@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures longest-prefix matching of IP addresses in a {@link CidrIndex}.
+ *
+ * <p>The ranges have random prefixes of 8 to 32 bits for IPv4 and 16 to 64 bits for IPv6.
+ * Each invocation looks up {@value #LOOKUPS} random addresses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CidrIndexBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private CidrIndex index;
+    private int[] ipv4;
+    private long[] ipv6;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var ranges = new ArrayList<String>(size);
+        for (var i = 0; i < size; i++) {
+            if (i % 2 == 0) {
+                var length = 8 + random.nextInt(25);
+                var address = random.nextInt() & (int) (-1L << (32 - length));
+                ranges.add(IpAddresses.toString(IpAddresses.ipv4(address)) + '/' + length);
+            } else {
+                var length = 16 + random.nextInt(49);
+                var high = random.nextLong() & (-1L << (64 - length));
+                ranges.add(IpAddresses.toString(IpAddresses.ipv6(high, 0)) + '/' + length);
+            }
+        }
+        index = CidrIndex.of(ranges);
+        ipv4 = new int[LOOKUPS];
+        ipv6 = new long[LOOKUPS * 2];
+        for (var i = 0; i < LOOKUPS; i++) {
+            ipv4[i] = random.nextInt();
+            ipv6[2 * i] = random.nextLong();
+            ipv6[2 * i + 1] = random.nextLong();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void matchIpv4(Blackhole blackhole) {
+        for (var address : ipv4) {
+            blackhole.consume(index.matchIpv4(address));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void matchIpv6(Blackhole blackhole) {
+        for (var i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(index.matchIpv6(ipv6[2 * i], ipv6[2 * i + 1]));
+        }
+    }
+}
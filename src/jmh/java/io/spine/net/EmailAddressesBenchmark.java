@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validation and creation of {@link EmailAddress}es.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailAddressesBenchmark {
+
+    /**
+     * Sets of email addresses used as inputs.
+     */
+    public enum Corpus {
+
+        VALID("jdoe@spine.io",
+              "first.last+tag@mail.example.com",
+              "a@b.co",
+              "very.long.local.part.with.many.dots.and_underscores%percent@sub.domain.example.org"),
+
+        INVALID("@spine.io",
+                "user@",
+                "user @ spine.io",
+                "user@-spine.io",
+                "user@spine"),
+
+        /** Long almost valid addresses which fail at the very end. */
+        HOSTILE("a".repeat(250) + "@" + "b".repeat(60) + ".c" + "-".repeat(30),
+                "user@" + "a.".repeat(200) + "-",
+                "x".repeat(300) + "@spine.io");
+
+        private final String[] values;
+
+        Corpus(String... values) {
+            this.values = values;
+        }
+    }
+
+    @Param
+    private Corpus corpus;
+
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        values = corpus.values.clone();
+    }
+
+    @Benchmark
+    public void isValid(Blackhole blackhole) {
+        for (var value : values) {
+            blackhole.consume(EmailAddresses.isValid(value));
+        }
+    }
+
+    @Benchmark
+    public void valueOf(Blackhole blackhole) {
+        for (var value : values) {
+            try {
+                blackhole.consume(EmailAddresses.valueOf(value));
+            } catch (IllegalArgumentException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromTrusted(Blackhole blackhole) {
+        var addresses = EmailAddresses.fromTrusted(Arrays.asList(values).iterator());
+        while (addresses.hasNext()) {
+            blackhole.consume(addresses.next());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up query parameters of a {@link Uri} by searching the list of them with
+ * looking them up through a new {@link QueryIndex}, as it is done once per request.
+ *
+ * <p>Each invocation looks up eight keys, half of which are absent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryIndexBenchmark {
+
+    @Param({"4", "12", "40"})
+    private int parameters;
+
+    private Uri uri;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        var spec = new StringBuilder("https://spine.io/search?");
+        for (var i = 0; i < parameters; i++) {
+            spec.append("param")
+                .append(i)
+                .append("=value")
+                .append(i)
+                .append('&');
+        }
+        uri = Urls.parse(spec.toString());
+        keys = new String[]{
+                "param0", "param" + (parameters - 1), "param" + parameters / 2, "param1",
+                "utm_source", "utm_medium", "experiment", "variant"
+        };
+    }
+
+    @Benchmark
+    public void list(Blackhole blackhole) {
+        for (var key : keys) {
+            String value = null;
+            for (var parameter : uri.getQueryList()) {
+                if (parameter.getKey().equals(key)) {
+                    value = parameter.getValue();
+                    break;
+                }
+            }
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        var index = QueryIndex.of(uri);
+        for (var key : keys) {
+            blackhole.consume(index.getOrDefault(key, ""));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing the URL of an HTTP request rebuilt from the {@code Host} header and
+ * the request target with {@linkplain UrlParser#parseRequest parsing} the two directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestTargetBenchmark {
+
+    private static final String[] HOSTS = {
+            "spine.io", "api.example.com:8443", "127.0.0.1:8080", "cdn.example.org"
+    };
+
+    private static final String[] TARGETS = {
+            "/",
+            "/docs/index.html",
+            "/v2/organizations/42/projects?page=2&size=50&sort=name",
+            "/search?q=url+parser&lang=en&utm_source=newsletter&utm_medium=email"
+                    + "&utm_campaign=october",
+            "/static/js/vendor/analytics/events/page-view/handler.min.js?v=20221018",
+    };
+
+    private UrlParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = UrlParser.newInstance();
+    }
+
+    @Benchmark
+    public void absoluteUrl(Blackhole blackhole) {
+        for (var host : HOSTS) {
+            for (var target : TARGETS) {
+                blackhole.consume(parser.parse("http://" + host + target));
+            }
+        }
+    }
+
+    @Benchmark
+    public void request(Blackhole blackhole) {
+        for (var host : HOSTS) {
+            for (var target : TARGETS) {
+                blackhole.consume(parser.parseRequest(Uri.Schema.HTTP, host, target));
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures extracting URLs from an access log of about 64 MB by the {@link UrlExtractor}
+ * with pools of different sizes, and by the {@link AutolinkScanner} reading the log
+ * line by line.
+ *
+ * <p>The log is written once per trial, so it is read from the page cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UrlExtractorBenchmark {
+
+    private static final int LINES = 350_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private Path file;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("access", ".log");
+        var random = new Random(42);
+        try (var writer = Files.newBufferedWriter(file, UTF_8)) {
+            for (var i = 0; i < LINES; i++) {
+                writer.write("10.0." + random.nextInt(256) + '.' + random.nextInt(256)
+                                     + " - - [18/Oct/2026:10:00:00 +0000] \"GET /p/"
+                                     + random.nextInt(100_000) + "?q=x HTTP/1.1\" 200 "
+                                     + random.nextInt(10_000) + " \"https://www.example"
+                                     + random.nextInt(50) + ".com/ref/" + i
+                                     + "\" \"Mozilla/5.0 (X11; Linux x86_64) Firefox/118.0\"\n");
+            }
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long extractor() {
+        var count = new LongAdder();
+        UrlExtractor.scan(file, pool, link -> count.increment());
+        return count.sum();
+    }
+
+    @Benchmark
+    public long lines() throws IOException {
+        var count = 0L;
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                count += AutolinkScanner.findUrls(line).size();
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures parsing of URLs into {@link Uri} and {@link UriView}.
+ *
+ * <p>Each invocation parses all URLs of the {@linkplain UrlCorpus corpus}.
+ *
+ * <p>The {@code chunks} benchmarks parse URLs whose UTF-8 bytes are split in halves, as they
+ * arrive in two network buffers, either by assembling a {@code String} of the chunks or by
+ * the {@link IncrementalUrlParser}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlParserBenchmark {
+
+    @Param
+    private UrlCorpus corpus;
+
+    private String[] specs;
+    private UrlParser parser;
+    private ByteBuffer[][] chunks;
+    private IncrementalUrlParser incremental;
+    private StringBuilder assembled;
+
+    @Setup
+    public void setUp() {
+        specs = corpus.specs();
+        parser = UrlParser.newInstance();
+        chunks = new ByteBuffer[specs.length][];
+        for (var i = 0; i < specs.length; i++) {
+            var bytes = specs[i].getBytes(UTF_8);
+            var half = bytes.length / 2;
+            chunks[i] = new ByteBuffer[]{
+                    ByteBuffer.wrap(bytes, 0, half).slice(),
+                    ByteBuffer.wrap(bytes, half, bytes.length - half).slice()
+            };
+        }
+        incremental = IncrementalUrlParser.newInstance();
+        assembled = new StringBuilder();
+    }
+
+    @Benchmark
+    public void parseWithReusedParser(Blackhole blackhole) {
+        for (var spec : specs) {
+            blackhole.consume(parser.parse(spec));
+        }
+    }
+
+    @Benchmark
+    public void parseWithUrls(Blackhole blackhole) {
+        for (var spec : specs) {
+            blackhole.consume(Urls.parse(spec));
+        }
+    }
+
+    @Benchmark
+    public void viewHost(Blackhole blackhole) {
+        for (var spec : specs) {
+            blackhole.consume(UriView.of(spec).host());
+        }
+    }
+
+    @Benchmark
+    public void parseAssembledChunks(Blackhole blackhole) {
+        for (var url : chunks) {
+            assembled.setLength(0);
+            for (var chunk : url) {
+                chunk.rewind();
+                assembled.append(UTF_8.decode(chunk));
+            }
+            blackhole.consume(parser.parse(assembled.toString()));
+        }
+    }
+
+    @Benchmark
+    public void parseChunksIncrementally(Blackhole blackhole) {
+        for (var url : chunks) {
+            for (var chunk : url) {
+                chunk.rewind();
+                incremental.accept(chunk);
+            }
+            blackhole.consume(incremental.finish());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating domain names directly with validating them through
+ * a {@link ValidationCache} which holds all of them.
+ *
+ * <p>The {@code fresh} benchmarks copy the names before each invocation, so that their hash
+ * codes are not cached, as it is with names which come from outside. The {@code same}
+ * benchmarks look up the same {@code String} instances over and over.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationCacheBenchmark {
+
+    private static final int LOOKUPS = 1024;
+    private static final int HOSTS = 2048;
+
+    private ValidationCache cache;
+    private String[] names;
+    private String[] fresh;
+
+    @Setup
+    public void setUp() {
+        cache = ValidationCache.forDomains(HOSTS * 2);
+        names = new String[LOOKUPS];
+        for (var i = 0; i < LOOKUPS; i++) {
+            names[i] = "www.host" + i * 7 % HOSTS + ".example-domain.com";
+            cache.isValid(names[i]);
+        }
+        fresh = new String[LOOKUPS];
+    }
+
+    @Setup(Level.Invocation)
+    public void copyNames() {
+        for (var i = 0; i < LOOKUPS; i++) {
+            fresh[i] = new String(names[i].toCharArray());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void freshDirect(Blackhole blackhole) {
+        for (var name : fresh) {
+            blackhole.consume(InternetDomains.isValid(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void freshCached(Blackhole blackhole) {
+        for (var name : fresh) {
+            blackhole.consume(cache.isValid(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void sameDirect(Blackhole blackhole) {
+        for (var name : names) {
+            blackhole.consume(InternetDomains.isValid(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void sameCached(Blackhole blackhole) {
+        for (var name : names) {
+            blackhole.consume(cache.isValid(name));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net.string;
+
+import io.spine.net.UrlCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures round trips of network values through their {@link NetStringifiers stringifiers}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetStringifiersBenchmark {
+
+    @Param
+    private UrlCorpus corpus;
+
+    private String[] specs;
+
+    private final String[] emails = {"jdoe@spine.io", "first.last+tag@mail.example.com"};
+    private final String[] domains = {"spine.io", "api.v2.services.example.co.uk"};
+
+    @Setup
+    public void setUp() {
+        specs = corpus.specs();
+    }
+
+    @Benchmark
+    public void url(Blackhole blackhole) {
+        var stringifier = NetStringifiers.forUrl();
+        for (var spec : specs) {
+            var url = stringifier.reverse().convert(spec);
+            blackhole.consume(stringifier.convert(url));
+        }
+    }
+
+    @Benchmark
+    public void uri(Blackhole blackhole) {
+        var stringifier = NetStringifiers.forUri();
+        for (var spec : specs) {
+            var uri = stringifier.reverse().convert(spec);
+            blackhole.consume(stringifier.convert(uri));
+        }
+    }
+
+    @Benchmark
+    public void emailAddress(Blackhole blackhole) {
+        var stringifier = NetStringifiers.forEmailAddress();
+        for (var value : emails) {
+            var email = stringifier.reverse().convert(value);
+            blackhole.consume(stringifier.convert(email));
+        }
+    }
+
+    @Benchmark
+    public void internetDomain(Blackhole blackhole) {
+        var stringifier = NetStringifiers.forInternetDomain();
+        for (var value : domains) {
+            var domain = stringifier.reverse().convert(value);
+            blackhole.consume(stringifier.convert(domain));
+        }
+    }
+}
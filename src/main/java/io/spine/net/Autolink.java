@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * A URL or an email address found in a text by the {@link AutolinkScanner}.
+ *
+ * <p>The link is a span of the text. Its characters are copied only when the {@linkplain #value()
+ * value} is requested, and a {@code Url} or an {@code EmailAddress} is created only when it is
+ * requested too. A link found in a {@code CharSequence} refers to the sequence, so the sequence
+ * must not be modified while the link is used.
+ *
+ * <p>The position of a link found in a text is counted in characters. The position of a link
+ * {@linkplain UrlExtractor extracted from a file} is counted in bytes.
+ */
+public final class Autolink {
+
+    private final Kind kind;
+    private final long start;
+    private final long end;
+    private final CharSequence source;
+    private final int sourceStart;
+    private final int sourceEnd;
+
+    private Autolink(Kind kind, long start, long end,
+                     CharSequence source, int sourceStart, int sourceEnd) {
+        this.kind = kind;
+        this.start = start;
+        this.end = end;
+        this.source = source;
+        this.sourceStart = sourceStart;
+        this.sourceEnd = sourceEnd;
+    }
+
+    /**
+     * Creates a new link.
+     *
+     * @param kind
+     *         the kind of the link
+     * @param start
+     *         the index of the first character of the link in the scanned text
+     * @param end
+     *         the index after the last character of the link in the scanned text
+     * @param source
+     *         the sequence holding the characters of the link
+     * @param sourceStart
+     *         the index of the first character of the link in the {@code source}
+     */
+    static Autolink of(Kind kind, long start, long end, CharSequence source, int sourceStart) {
+        var sourceEnd = sourceStart + (int) (end - start);
+        return new Autolink(kind, start, end, source, sourceStart, sourceEnd);
+    }
+
+    /**
+     * Creates a new link whose position is not counted in the characters of the {@code source}.
+     *
+     * @param kind
+     *         the kind of the link
+     * @param start
+     *         the position of the start of the link in the scanned input
+     * @param end
+     *         the position of the end of the link in the scanned input
+     * @param source
+     *         the sequence holding the characters of the link
+     * @param sourceStart
+     *         the index of the first character of the link in the {@code source}
+     * @param sourceEnd
+     *         the index after the last character of the link in the {@code source}
+     */
+    static Autolink of(Kind kind, long start, long end,
+                       CharSequence source, int sourceStart, int sourceEnd) {
+        return new Autolink(kind, start, end, source, sourceStart, sourceEnd);
+    }
+
+    /** Obtains the kind of the link. */
+    public Kind kind() {
+        return kind;
+    }
+
+    /** Obtains the position of the start of the link in the scanned input. */
+    public long start() {
+        return start;
+    }
+
+    /** Obtains the position of the end of the link in the scanned input. */
+    public long end() {
+        return end;
+    }
+
+    /** Obtains the number of characters in the link. */
+    public int length() {
+        return sourceEnd - sourceStart;
+    }
+
+    /** Obtains the characters of the link. */
+    public String value() {
+        var result = source.subSequence(sourceStart, sourceEnd)
+                           .toString();
+        return result;
+    }
+
+    /**
+     * Creates a {@code Url} of this link.
+     *
+     * <p>The link is not required to have a scheme, e.g. {@code "example.com/about"}.
+     *
+     * @throws IllegalStateException
+     *         if the link is not a {@linkplain Kind#URL URL}
+     */
+    public Url toUrl() {
+        checkState(kind == Kind.URL, "The link `%s` is not a URL.", this);
+        var result = Url.newBuilder()
+                .setSpec(value())
+                .build();
+        return result;
+    }
+
+    /**
+     * Creates an {@code EmailAddress} of this link.
+     *
+     * @throws IllegalStateException
+     *         if the link is not an {@linkplain Kind#EMAIL_ADDRESS email address}
+     */
+    public EmailAddress toEmailAddress() {
+        checkState(kind == Kind.EMAIL_ADDRESS, "The link `%s` is not an email address.", this);
+        var result = EmailAddress.newBuilder()
+                .setValue(value())
+                .build();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Autolink)) {
+            return false;
+        }
+        var other = (Autolink) o;
+        return kind == other.kind
+                && start == other.start
+                && end == other.end
+                && value().equals(other.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, start, end);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("kind", kind)
+                          .add("start", start)
+                          .add("end", end)
+                          .add("value", value())
+                          .toString();
+    }
+
+    /**
+     * The kinds of links.
+     */
+    public enum Kind {
+
+        /**
+         * A web URL, with or without a scheme.
+         */
+        URL,
+
+        /**
+         * An email address.
+         */
+        EMAIL_ADDRESS
+    }
+}
@@ -0,0 +1,1018 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.net.Autolink.Kind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static io.spine.net.DomainNameValidator.MAX_LABEL_LENGTH;
+import static io.spine.net.DomainNameValidator.isUcsChar;
+import static java.lang.Character.NON_SPACING_MARK;
+import static java.lang.Character.charCount;
+import static java.lang.Character.codePointAt;
+import static java.lang.Character.codePointBefore;
+
+/**
+ * Finds the spans of a text matched by the {@link Patterns#AUTOLINK_WEB_URL} and
+ * {@link Patterns#AUTOLINK_EMAIL_ADDRESS} patterns, in time linear in the length of the text.
+ *
+ * <p>The spans are the same as found by repeated calls to {@link java.util.regex.Matcher#find()
+ * Matcher.find()}, with the word boundaries of Java 17. The known exceptions are runs of more than
+ * {@value DomainNameValidator#MAX_LABEL_LENGTH} label characters with hyphens after a scheme,
+ * which the pattern may split into labels in ways the matcher does not try, and top-level
+ * domains which are {@linkplain TopLevelDomains#reload(java.nio.file.Path) reloaded}, which
+ * the matcher follows and the pattern does not.
+ *
+ * <p>Neither pattern matches whitespace, so the text is split into segments of non-whitespace
+ * characters, and every segment is searched separately. Before the search, the matcher computes
+ * for every position of the segment whether it is a word boundary, and where the runs of label,
+ * path and email characters starting at the position end. The alternatives which the patterns
+ * backtrack through become lookups in these tables. The host names which follow a position are
+ * resolved once per position, so a position is visited a bounded number of times no matter how
+ * many matches are attempted over it.
+ *
+ * <p>When both kinds of links are searched for, the overlapping ones are resolved as Android
+ * {@code Linkify} does: of two overlapping links the longer one is kept, e.g. an email address
+ * rather than the host name in it.
+ *
+ * <p>The matcher keeps the tables between the segments and is not safe for use by several
+ * threads.
+ */
+final class AutolinkMatcher {
+
+    /** The result of a failed match. */
+    private static final int NONE = -1;
+
+    /** The value of a host name table entry which is not resolved yet. */
+    private static final int UNKNOWN = -2;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_PORT_DIGITS = 5;
+    private static final int MAX_USER_LENGTH = 64;
+    private static final int MAX_PASSWORD_LENGTH = 25;
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_EMAIL_DOMAIN_LENGTH = 255;
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int MAX_PUNYCODE_SUFFIX_LENGTH = 59;
+    private static final int MAX_OCTET = 255;
+    private static final int OCTET_DIGITS = 3;
+    private static final int ESCAPE_LENGTH = 3;
+    private static final int ADDRESS_OCTETS = 4;
+
+    private static final String PUNYCODE_PREFIX = "xn--";
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final String[] SCHEMES = {"http://", "https://", "rtsp://"};
+
+    /*
+     * The classes of ASCII characters, as bits of the table entries.
+     */
+
+    private static final int ASCII_LIMIT = 128;
+    private static final int LETTER_OR_DIGIT = 1;
+    private static final int WORD = 1 << 1;
+    private static final int HEX_DIGIT = 1 << 2;
+    private static final int USER_INFO = 1 << 3;
+    private static final int PATH = 1 << 4;
+    private static final int EMAIL = 1 << 5;
+
+    /** The classes of every ASCII character. */
+    private static final byte[] ASCII_CLASSES = asciiClasses();
+
+    /** Orders links by their start, the longer link first. */
+    private static final Comparator<Autolink> BY_POSITION =
+            Comparator.comparingLong(Autolink::start)
+                      .thenComparing(Comparator.comparingLong(Autolink::end)
+                                               .reversed());
+
+    private final boolean urls;
+    private final boolean emailAddresses;
+    private final List<Autolink> found = new ArrayList<>();
+    private final int[] tldEnds = new int[MAX_LABEL_LENGTH + 1];
+
+    /** Tells if the position is matched by the word boundary of the patterns. */
+    private boolean[] boundary = new boolean[INITIAL_CAPACITY];
+
+    /** The number of code points before the position. */
+    private int[] codePoints = new int[INITIAL_CAPACITY];
+
+    /** The end of the run of label characters and hyphens starting at the position. */
+    private int[] labelEnd = new int[INITIAL_CAPACITY];
+
+    /** The end of the run of email local part characters starting at the position. */
+    private int[] localPartEnd = new int[INITIAL_CAPACITY];
+
+    /** The end of the run of path characters and escapes starting at the position. */
+    private int[] pathEnd = new int[INITIAL_CAPACITY];
+
+    /** The last position up to this one where a path may end, or {@link #NONE}. */
+    private int[] lastPathStop = new int[INITIAL_CAPACITY];
+
+    /** The first line terminator at or after the position. */
+    private int[] lineEnd = new int[INITIAL_CAPACITY];
+
+    /** The end of a URL whose host name starts at the position. */
+    private int[] urlHosts = new int[INITIAL_CAPACITY];
+
+    /** The end of an email address whose host name starts at the position. */
+    private int[] emailHosts = new int[INITIAL_CAPACITY];
+
+    /** The starts of the labels of a host name being resolved. */
+    private int[] labels = new int[INITIAL_CAPACITY];
+
+    private CharSequence text = "";
+    private int from;
+    private int to;
+    private boolean inputEnd;
+    private long offset;
+    private boolean copy;
+    private TopLevelDomainSet domains = TopLevelDomains.current();
+
+    /**
+     * Creates a new matcher.
+     *
+     * @param urls
+     *         whether to find URLs
+     * @param emailAddresses
+     *         whether to find email addresses
+     */
+    AutolinkMatcher(boolean urls, boolean emailAddresses) {
+        this.urls = urls;
+        this.emailAddresses = emailAddresses;
+    }
+
+    /**
+     * Finds the links in the given region of the text.
+     *
+     * <p>If the text is not {@code complete}, the region must end with a whitespace
+     * character, and the input must go on after the region so that the {@code $} anchor cannot
+     * match in it, e.g. with two more characters, or with one more character if the region ends
+     * with {@code '\n'}. Then the end of the text does not affect the matching in the region.
+     *
+     * @param text
+     *         the text to search
+     * @param start
+     *         the index of the first character of the region
+     * @param end
+     *         the index after the last character of the region
+     * @param offset
+     *         the index of the first character of the {@code text} in the scanned input
+     * @param complete
+     *         whether the region ends the input
+     * @param copy
+     *         whether the links should copy their characters, as the text is to be modified
+     * @param action
+     *         the action to perform on the found links
+     */
+    void scan(CharSequence text, int start, int end, long offset,
+              boolean complete, boolean copy, Consumer<? super Autolink> action) {
+        this.text = text;
+        this.offset = offset;
+        this.copy = copy;
+        this.domains = TopLevelDomains.current();
+        var i = start;
+        while (i < end) {
+            if (isSpace(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            var segmentStart = i;
+            var dots = false;
+            var colons = false;
+            var ats = false;
+            for (var c = text.charAt(i); !isSpace(c); c = text.charAt(i)) {
+                dots |= c == '.';
+                colons |= c == ':';
+                ats |= c == '@';
+                if (++i == end) {
+                    break;
+                }
+            }
+            var findUrls = urls && (dots || colons);
+            var findEmailAddresses = emailAddresses && dots && ats;
+            if (findUrls || findEmailAddresses) {
+                var dollar = complete && isInputEnd(i, end);
+                prepare(segmentStart, i, complete && i == end, dollar);
+                scanSegment(findUrls, findEmailAddresses, action);
+            }
+        }
+        this.text = "";
+    }
+
+    /**
+     * Tells if the {@code $} anchor matches at the given position of the complete text.
+     */
+    private boolean isInputEnd(int position, int length) {
+        var remaining = length - position;
+        if (remaining == 0) {
+            return true;
+        }
+        var c = text.charAt(position);
+        if (remaining == 1) {
+            return c == '\n' || c == '\r';
+        }
+        return remaining == 2 && c == '\r' && text.charAt(position + 1) == '\n';
+    }
+
+    private void scanSegment(boolean findUrls, boolean findEmailAddresses,
+                             Consumer<? super Autolink> action) {
+        if (findUrls && findEmailAddresses) {
+            findUrls(found::add);
+            findEmailAddresses(found::add);
+            found.sort(BY_POSITION);
+            pruneOverlaps();
+            found.forEach(action);
+            found.clear();
+        } else if (findUrls) {
+            findUrls(action);
+        } else {
+            findEmailAddresses(action);
+        }
+    }
+
+    /**
+     * Removes the shorter one of every two overlapping links.
+     *
+     * <p>Two overlapping links of the same length are both kept.
+     */
+    private void pruneOverlaps() {
+        var i = 0;
+        while (i < found.size() - 1) {
+            var first = found.get(i);
+            var second = found.get(i + 1);
+            var remove = NONE;
+            if (first.end() > second.start()) {
+                if (second.end() <= first.end() || first.length() > second.length()) {
+                    remove = i + 1;
+                } else if (first.length() < second.length()) {
+                    remove = i;
+                }
+            }
+            if (remove == NONE) {
+                i++;
+            } else {
+                found.remove(remove);
+            }
+        }
+    }
+
+    private void findUrls(Consumer<? super Autolink> action) {
+        var start = from;
+        while (start < to) {
+            var end = matchUrl(start);
+            if (end == NONE) {
+                start++;
+            } else {
+                action.accept(link(Kind.URL, start, end));
+                start = end;
+            }
+        }
+    }
+
+    private void findEmailAddresses(Consumer<? super Autolink> action) {
+        var start = from;
+        while (start < to) {
+            var end = matchEmailAddress(start);
+            if (end == NONE) {
+                start++;
+            } else {
+                action.accept(link(Kind.EMAIL_ADDRESS, start, end));
+                start = end;
+            }
+        }
+    }
+
+    private Autolink link(Kind kind, int start, int end) {
+        if (copy) {
+            var value = text.subSequence(start, end)
+                            .toString();
+            return Autolink.of(kind, offset + start, offset + end, value, 0);
+        }
+        return Autolink.of(kind, offset + start, offset + end, text, start);
+    }
+
+    /*
+     * Tables of the segment
+     ************************/
+
+    /**
+     * Fills the tables for the segment.
+     *
+     * @param start
+     *         the index of the first character of the segment
+     * @param end
+     *         the index after the last character of the segment
+     * @param inputEnd
+     *         whether the segment ends the input
+     * @param dollar
+     *         whether the {@code $} anchor matches at the end of the segment
+     */
+    private void prepare(int start, int end, boolean inputEnd, boolean dollar) {
+        from = start;
+        to = end;
+        this.inputEnd = inputEnd;
+        ensureCapacity(end - start + 1);
+        fillBoundaries(dollar);
+        fillRuns();
+        fillPathStops();
+        Arrays.fill(urlHosts, 0, to - from + 1, UNKNOWN);
+        Arrays.fill(emailHosts, 0, to - from + 1, UNKNOWN);
+    }
+
+    private void ensureCapacity(int length) {
+        if (boundary.length >= length) {
+            return;
+        }
+        var capacity = Math.max(length, boundary.length * 2);
+        boundary = new boolean[capacity];
+        codePoints = new int[capacity];
+        labelEnd = new int[capacity];
+        localPartEnd = new int[capacity];
+        pathEnd = new int[capacity];
+        lastPathStop = new int[capacity];
+        lineEnd = new int[capacity];
+        urlHosts = new int[capacity];
+        emailHosts = new int[capacity];
+        labels = new int[capacity];
+    }
+
+    /**
+     * Fills the word boundaries and the numbers of code points.
+     *
+     * <p>The boundary is {@code (?:\b|$|^)}. As in {@code java.util.regex}, a non-spacing mark
+     * is a word character if it follows a letter or a digit, possibly through other marks.
+     * The characters around the segment are whitespace, which is not a word character.
+     */
+    private void fillBoundaries(boolean dollar) {
+        var count = 0;
+        var wordBefore = false;
+        var baseBefore = false;
+        for (var i = from; i <= to; i++) {
+            var index = i - from;
+            codePoints[index] = count;
+            var word = false;
+            var base = false;
+            var c = i < to ? text.charAt(i) : ' ';
+            if (c < ASCII_LIMIT) {
+                base = is(c, LETTER_OR_DIGIT);
+                word = is(c, WORD);
+            } else {
+                var codePoint = codePointAt(text, i);
+                var mark = Character.getType(codePoint) == NON_SPACING_MARK;
+                base = Character.isLetterOrDigit(codePoint) || (mark && baseBefore);
+                word = isWordChar(codePoint) || (mark && base);
+            }
+            var anchor = i == to
+                         ? dollar
+                         : inputEnd && i == to - 1 && isLineTerminator(c);
+            boundary[index] = wordBefore != word || anchor || (i == from && offset + from == 0);
+            if (i == to) {
+                break;
+            }
+            if (Character.isSurrogate(c)) {
+                if (!Character.isLowSurrogate(c) || i == from
+                        || !Character.isHighSurrogate(text.charAt(i - 1))) {
+                    count++;
+                }
+                var codePoint = codePointBefore(text, i + 1);
+                var mark = Character.getType(codePoint) == NON_SPACING_MARK;
+                wordBefore = isWordChar(codePoint) || (mark && base);
+            } else {
+                count++;
+                wordBefore = word;
+            }
+            baseBefore = base;
+        }
+    }
+
+    /**
+     * Fills the ends of the runs of characters, walking the segment backwards.
+     */
+    private void fillRuns() {
+        var last = to - from;
+        labelEnd[last] = to;
+        localPartEnd[last] = to;
+        pathEnd[last] = to;
+        lineEnd[last] = to;
+        for (var i = to - 1; i >= from; i--) {
+            var index = i - from;
+            var c = text.charAt(i);
+            var codePoint = Character.isHighSurrogate(c) ? codePointAt(text, i) : c;
+            var next = index + charCount(codePoint);
+            var label = isLabelChar(codePoint);
+            labelEnd[index] = label || c == '-' ? labelEnd[next] : i;
+            localPartEnd[index] = label || c == '.' || is(c, EMAIL) ? localPartEnd[next] : i;
+            if (isEscape(i)) {
+                pathEnd[index] = pathEnd[index + ESCAPE_LENGTH];
+            } else {
+                pathEnd[index] = label || is(c, PATH) ? pathEnd[next] : i;
+            }
+            lineEnd[index] = isLineTerminator(c) ? i : lineEnd[index + 1];
+        }
+    }
+
+    /**
+     * Fills the last positions where a path may end.
+     *
+     * <p>A path may end at a word boundary which is neither inside a percent-encoded octet
+     * nor inside a surrogate pair.
+     */
+    private void fillPathStops() {
+        var escaped = 0;
+        var stop = NONE;
+        for (var i = from; i <= to; i++) {
+            var index = i - from;
+            var inside = escaped > 0
+                    || (i > from && i < to
+                        && Character.isLowSurrogate(text.charAt(i))
+                        && Character.isHighSurrogate(text.charAt(i - 1)));
+            if (escaped > 0) {
+                escaped--;
+            }
+            if (i < to && isEscape(i)) {
+                escaped = 2;
+            }
+            if (!inside && boundary[index]) {
+                stop = i;
+            }
+            lastPathStop[index] = stop;
+        }
+    }
+
+    /**
+     * Tells if a percent-encoded octet starts at the given position.
+     */
+    private boolean isEscape(int position) {
+        return text.charAt(position) == '%'
+                && position + 2 < to
+                && is(text.charAt(position + 1), HEX_DIGIT)
+                && is(text.charAt(position + 2), HEX_DIGIT);
+    }
+
+    private boolean boundary(int position) {
+        return boundary[position - from];
+    }
+
+    /*
+     * URLs
+     *********/
+
+    /**
+     * Matches a URL starting at the given position.
+     *
+     * @return the end of the URL or {@link #NONE}
+     */
+    private int matchUrl(int start) {
+        if (!boundary(start)) {
+            return NONE;
+        }
+        var result = matchWithScheme(start);
+        if (result == NONE && !followsSchemeSeparator(start)) {
+            result = host(start, urlHosts, false);
+            if (result == NONE) {
+                result = ipAddress(start);
+            }
+        }
+        return result;
+    }
+
+    private boolean followsSchemeSeparator(int position) {
+        var start = position - SCHEME_SEPARATOR.length();
+        return start >= from && regionMatches(start, SCHEME_SEPARATOR, false);
+    }
+
+    /**
+     * Matches a URL with a scheme, whose host name may have no top-level domain or be omitted.
+     */
+    private int matchWithScheme(int start) {
+        var hostStart = schemeEnd(start);
+        if (hostStart == NONE) {
+            return NONE;
+        }
+        var userInfoEnd = userInfoEnd(hostStart);
+        if (userInfoEnd != NONE) {
+            var result = relaxedHost(userInfoEnd);
+            if (result != NONE) {
+                return result;
+            }
+        }
+        return relaxedHost(hostStart);
+    }
+
+    private int schemeEnd(int start) {
+        for (var scheme : SCHEMES) {
+            if (regionMatches(start, scheme, true)) {
+                return start + scheme.length();
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Obtains the position after the {@code '@'} which ends the user info starting at
+     * the given position, or {@link #NONE} if there is no user info.
+     */
+    private int userInfoEnd(int start) {
+        var userEnd = userInfoPartEnd(start, MAX_USER_LENGTH);
+        if (userEnd == NONE || userEnd == to) {
+            return NONE;
+        }
+        if (text.charAt(userEnd) == '@') {
+            return userEnd + 1;
+        }
+        if (text.charAt(userEnd) == ':') {
+            var passwordEnd = userInfoPartEnd(userEnd + 1, MAX_PASSWORD_LENGTH);
+            if (passwordEnd != NONE && passwordEnd < to && text.charAt(passwordEnd) == '@') {
+                return passwordEnd + 1;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Obtains the end of the run of user info characters and escapes starting at the given
+     * position, or {@link #NONE} if the run is empty or has more than {@code maxLength} of them.
+     */
+    private int userInfoPartEnd(int start, int maxLength) {
+        var position = start;
+        var length = 0;
+        while (position < to) {
+            var c = text.charAt(position);
+            if (is(c, USER_INFO)) {
+                position++;
+            } else if (isEscape(position)) {
+                position += ESCAPE_LENGTH;
+            } else {
+                break;
+            }
+            length++;
+        }
+        return length == 0 || length > maxLength ? NONE : position;
+    }
+
+    /**
+     * Matches the rest of a URL with a scheme after its user info.
+     *
+     * <p>The pattern takes as many labels and dots as it can, and then gives back one
+     * character at a time. The positions it gives back are not followed by a port or a path,
+     * so only the word boundary is verified there. If no host name fits, the host name is
+     * omitted.
+     */
+    private int relaxedHost(int start) {
+        var greedyEnd = relaxedHostEnd(start);
+        if (greedyEnd > start) {
+            var result = tail(greedyEnd);
+            if (result != NONE) {
+                return result;
+            }
+            for (var end = greedyEnd - 1; end > start; end--) {
+                if (boundary(end) && (text.charAt(end - 1) == '.'
+                        || isLabelChar(codePointBefore(text, end)))) {
+                    return end;
+                }
+            }
+        }
+        return tail(start);
+    }
+
+    /**
+     * Obtains the end of the longest host name without a top-level domain which starts
+     * at the given position.
+     *
+     * <p>The host name is a sequence of labels, each optionally followed by a dot, unless
+     * the dot ends the segment.
+     */
+    private int relaxedHostEnd(int start) {
+        var position = start;
+        while (position < to && isLabelChar(codePointAt(text, position))) {
+            var labelEnd = position;
+            var end = position;
+            for (var length = 0; end < to && length < MAX_LABEL_LENGTH; length++) {
+                var codePoint = codePointAt(text, end);
+                if (isLabelChar(codePoint)) {
+                    end += charCount(codePoint);
+                    labelEnd = end;
+                } else if (codePoint == '-') {
+                    end++;
+                } else {
+                    break;
+                }
+            }
+            position = labelEnd;
+            if (position + 1 < to && text.charAt(position) == '.') {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Matches the optional port and path, and the word boundary after them.
+     *
+     * @return the end of the URL or {@link #NONE}
+     */
+    private int tail(int position) {
+        if (position < to && text.charAt(position) == ':') {
+            var digits = 0;
+            while (digits < MAX_PORT_DIGITS
+                    && position + 1 + digits < to
+                    && isAsciiDigit(text.charAt(position + 1 + digits))) {
+                digits++;
+            }
+            for (; digits > 0; digits--) {
+                var result = pathTail(position + 1 + digits);
+                if (result != NONE) {
+                    return result;
+                }
+            }
+        }
+        return pathTail(position);
+    }
+
+    private int pathTail(int position) {
+        if (position < to && text.charAt(position) == '/') {
+            var end = lastPathStop[pathEnd[position - from] - from];
+            if (end > position) {
+                return end;
+            }
+        }
+        return boundary(position) ? position : NONE;
+    }
+
+    /**
+     * Matches a known or a Punycode top-level domain at the given position, followed by
+     * the tail of the URL.
+     *
+     * <p>As the pattern does, the longer names are tried first. The names are matched in
+     * lower case.
+     */
+    private int urlTopLevelDomain(int start) {
+        var maxLength = Math.min(domains.maxLength(), labelEnd[start - from] - start);
+        for (var length = maxLength; length > 0; length--) {
+            var end = start + length;
+            if (isLowerCase(start, end) && domains.contains(text, start, end)) {
+                var result = tail(end);
+                if (result != NONE) {
+                    return result;
+                }
+            }
+        }
+        return punycodeTopLevelDomain(start, false);
+    }
+
+    /**
+     * Matches an IP address followed by the tail of the URL.
+     */
+    private int ipAddress(int start) {
+        var position = start;
+        for (var octet = 1; octet < ADDRESS_OCTETS; octet++) {
+            var end = octetEnd(position, octet == 1);
+            if (end == NONE || end == to || text.charAt(end) != '.') {
+                return NONE;
+            }
+            position = end + 1;
+        }
+        var digits = digits(position);
+        if (digits >= OCTET_DIGITS && octet(position) <= MAX_OCTET) {
+            var result = tail(position + OCTET_DIGITS);
+            if (result != NONE) {
+                return result;
+            }
+        }
+        if (digits >= 2 && text.charAt(position) != '0') {
+            var result = tail(position + 2);
+            if (result != NONE) {
+                return result;
+            }
+        }
+        return digits >= 1 ? tail(position + 1) : NONE;
+    }
+
+    /**
+     * Obtains the end of a decimal octet, other than the last one, of an IP address.
+     *
+     * <p>The first octet may not be zero. Other octets may be zero, but may not start with it,
+     * unless they have three digits.
+     */
+    private int octetEnd(int start, boolean first) {
+        var digits = digits(start);
+        boolean valid;
+        switch (digits) {
+            case 1:
+                valid = !first || text.charAt(start) != '0';
+                break;
+            case 2:
+                valid = text.charAt(start) != '0';
+                break;
+            case OCTET_DIGITS:
+                valid = octet(start) <= MAX_OCTET;
+                break;
+            default:
+                valid = false;
+        }
+        return valid ? start + digits : NONE;
+    }
+
+    /**
+     * Counts the decimal digits starting at the given position, up to one more than an octet has.
+     */
+    private int digits(int start) {
+        var result = 0;
+        while (result <= OCTET_DIGITS && start + result < to
+                && isAsciiDigit(text.charAt(start + result))) {
+            result++;
+        }
+        return result;
+    }
+
+    private int octet(int start) {
+        var result = 0;
+        for (var i = start; i < start + OCTET_DIGITS; i++) {
+            result = result * 10 + (text.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    /*
+     * Email addresses
+     ********************/
+
+    /**
+     * Matches an email address starting at the given position.
+     *
+     * @return the end of the email address or {@link #NONE}
+     */
+    private int matchEmailAddress(int start) {
+        if (!boundary(start)) {
+            return NONE;
+        }
+        var at = localPartEnd[start - from];
+        if (at == start || at == to || text.charAt(at) != '@') {
+            return NONE;
+        }
+        if (!isEmailChar(codePointAt(text, start)) || !isEmailChar(codePointBefore(text, at))) {
+            return NONE;
+        }
+        var localPartLength = codePoints[at - from] - codePoints[start - from];
+        if (localPartLength == 2 || localPartLength > MAX_LOCAL_PART_LENGTH) {
+            return NONE;
+        }
+        var domainStart = at + 1;
+        var domainEnd = lineEnd[domainStart - from];
+        var domainLength = codePoints[domainEnd - from] - codePoints[domainStart - from];
+        if (domainLength == 0 || domainLength > MAX_EMAIL_DOMAIN_LENGTH) {
+            return NONE;
+        }
+        if (domainEnd < to && !(inputEnd && domainEnd == to - 1)) {
+            return NONE;
+        }
+        return host(domainStart, emailHosts, true);
+    }
+
+    /**
+     * Matches a Punycode top-level domain or 2 to 63 letters, followed by the word boundary.
+     */
+    private int emailTopLevelDomain(int start) {
+        var result = punycodeTopLevelDomain(start, true);
+        if (result != NONE) {
+            return result;
+        }
+        var length = 0;
+        var end = start;
+        while (end < to && length < MAX_LABEL_LENGTH) {
+            var codePoint = codePointAt(text, end);
+            if (!isAsciiLetter(codePoint) && !isUcsChar(codePoint)) {
+                break;
+            }
+            end += charCount(codePoint);
+            length++;
+            tldEnds[length] = end;
+        }
+        for (; length >= MIN_TLD_LENGTH; length--) {
+            if (boundary(tldEnds[length])) {
+                return tldEnds[length];
+            }
+        }
+        return NONE;
+    }
+
+    /*
+     * Host names
+     ***************/
+
+    /**
+     * Matches a host name starting at the given position, followed by the tail of
+     * the link.
+     *
+     * <p>The pattern takes as many labels followed by dots as it can, and then gives them back
+     * one at a time, trying the top-level domain after each. So the end of the link which has
+     * a host name starting at a label is the end of the one starting at the next label,
+     * or, if there is none, the end of the top-level domain after the label. The ends are kept
+     * in the given table, so that every label is resolved once in the segment.
+     *
+     * @param start
+     *         the first character of the host name
+     * @param ends
+     *         the table of the resolved ends
+     * @param email
+     *         whether the host name is a part of an email address
+     * @return the end of the link or {@link #NONE}
+     */
+    private int host(int start, int[] ends, boolean email) {
+        var count = 0;
+        var position = start;
+        int result;
+        while (true) {
+            var resolved = ends[position - from];
+            if (resolved != UNKNOWN) {
+                result = resolved;
+                break;
+            }
+            var dot = labelDot(position);
+            if (dot == NONE) {
+                ends[position - from] = NONE;
+                result = NONE;
+                break;
+            }
+            labels[count++] = position;
+            position = dot + 1;
+        }
+        while (count > 0) {
+            var label = labels[--count];
+            if (result == NONE) {
+                var next = labelDot(label) + 1;
+                result = email ? emailTopLevelDomain(next) : urlTopLevelDomain(next);
+            }
+            ends[label - from] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the position of the dot which ends a label starting at the given position,
+     * or {@link #NONE} if no label followed by a dot starts there.
+     */
+    private int labelDot(int start) {
+        if (start == to || !isLabelChar(codePointAt(text, start))) {
+            return NONE;
+        }
+        var end = labelEnd[start - from];
+        if (end == to
+                || text.charAt(end) != '.'
+                || !isLabelChar(codePointBefore(text, end))
+                || codePoints[end - from] - codePoints[start - from] > MAX_LABEL_LENGTH) {
+            return NONE;
+        }
+        return end;
+    }
+
+    /**
+     * Matches a Punycode top-level domain, followed by the tail of the URL or by the word
+     * boundary after an email address.
+     */
+    private int punycodeTopLevelDomain(int start, boolean email) {
+        if (!regionMatches(start, PUNYCODE_PREFIX, false)) {
+            return NONE;
+        }
+        var suffixStart = start + PUNYCODE_PREFIX.length();
+        var length = 0;
+        while (length < MAX_PUNYCODE_SUFFIX_LENGTH && suffixStart + length < to) {
+            var c = text.charAt(suffixStart + length);
+            if (!is(c, WORD) && c != '-') {
+                break;
+            }
+            length++;
+        }
+        for (var end = suffixStart + length; end > suffixStart; end--) {
+            if (is(text.charAt(end - 1), WORD)) {
+                var result = email ? (boundary(end) ? end : NONE) : tail(end);
+                if (result != NONE) {
+                    return result;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /*
+     * Characters
+     ***************/
+
+    private boolean regionMatches(int start, String value, boolean ignoreCase) {
+        if (to - start < value.length()) {
+            return false;
+        }
+        for (var i = 0; i < value.length(); i++) {
+            var c = text.charAt(start + i);
+            if (ignoreCase && isAsciiLetter(c)) {
+                c = (char) (c | ' ');
+            }
+            if (c != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isLowerCase(int start, int end) {
+        for (var i = start; i < end; i++) {
+            var c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Tells if the character is matched by {@code \s}. */
+    private static boolean isSpace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /** Tells if the character ends a line, so that {@code .} does not match it. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isWordChar(int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+    }
+
+    private static boolean isLabelChar(int codePoint) {
+        return codePoint < ASCII_LIMIT ? is(codePoint, LETTER_OR_DIGIT) : isUcsChar(codePoint);
+    }
+
+    private static boolean isEmailChar(int codePoint) {
+        return codePoint < ASCII_LIMIT ? is(codePoint, EMAIL) : isUcsChar(codePoint);
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Tells if the character is an ASCII one of any of the given classes.
+     */
+    private static boolean is(int c, int classes) {
+        return c < ASCII_LIMIT && (ASCII_CLASSES[c] & classes) != 0;
+    }
+
+    private static byte[] asciiClasses() {
+        var result = new byte[ASCII_LIMIT];
+        for (var c = 0; c < ASCII_LIMIT; c++) {
+            if (isAsciiLetter(c) || isAsciiDigit(c)) {
+                result[c] = LETTER_OR_DIGIT | WORD | USER_INFO | PATH | EMAIL;
+            }
+        }
+        for (var c = 'a'; c <= 'f'; c++) {
+            result[c] |= HEX_DIGIT;
+            result[Character.toUpperCase(c)] |= HEX_DIGIT;
+        }
+        for (var c = '0'; c <= '9'; c++) {
+            result[c] |= HEX_DIGIT;
+        }
+        result['_'] |= WORD;
+        add(result, "$-_.+!*'(),;?&=", USER_INFO);
+        add(result, ";/?:@&=#~-.+!*'(),_", PATH);
+        add(result, "+-_%'", EMAIL);
+        return result;
+    }
+
+    private static void add(byte[] table, String chars, int characterClass) {
+        for (var i = 0; i < chars.length(); i++) {
+            table[chars.charAt(i)] |= (byte) characterClass;
+        }
+    }
+}
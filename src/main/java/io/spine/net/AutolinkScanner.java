@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Finds URLs and email addresses in a free text, such as a chat message or a support ticket.
+ *
+ * <p>The scanner finds the same links as the autolink patterns of this library, which are
+ * the patterns of Android {@code Linkify}, but in time linear in the length of the text. Unlike
+ * the backtracking of the patterns, no input makes the scanner slow.
+ *
+ * <p>A URL is found with or without a scheme. A URL with the {@code http}, {@code https} or
+ * {@code rtsp} scheme may have any host name, or no host name at all. A URL without a scheme
+ * must have a host name with a {@linkplain TopLevelDomains known} or a Punycode top-level
+ * domain, or an IPv4 address. An email address has a host name with a top-level domain of
+ * letters or a Punycode one.
+ *
+ * <p>The scanner reports the links as {@linkplain Autolink spans} of the text. The values of
+ * the links are created only when requested.
+ */
+public final class AutolinkScanner {
+
+    /** The number of characters read from a {@code Reader} at once. */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The number of characters after a whitespace character which tell that the input
+     * does not end right after it.
+     */
+    private static final int LOOKAHEAD = 3;
+
+    /** Prevent instantiation of this utility class. */
+    private AutolinkScanner() {
+    }
+
+    /**
+     * Finds the URLs and the email addresses in the text.
+     *
+     * <p>Of two overlapping links, the longer one is returned, e.g. the email address
+     * {@code "info@example.com"} rather than the URL {@code "example.com"} in it.
+     *
+     * @return the links in the order of their positions
+     */
+    public static ImmutableList<Autolink> findAll(CharSequence text) {
+        checkNotNull(text);
+        var result = ImmutableList.<Autolink>builder();
+        scan(text, result::add);
+        return result.build();
+    }
+
+    /**
+     * Finds the URLs in the text.
+     *
+     * @return the URLs in the order of their positions
+     */
+    public static ImmutableList<Autolink> findUrls(CharSequence text) {
+        checkNotNull(text);
+        return find(text, new AutolinkMatcher(true, false));
+    }
+
+    /**
+     * Finds the email addresses in the text.
+     *
+     * @return the email addresses in the order of their positions
+     */
+    public static ImmutableList<Autolink> findEmailAddresses(CharSequence text) {
+        checkNotNull(text);
+        return find(text, new AutolinkMatcher(false, true));
+    }
+
+    private static ImmutableList<Autolink> find(CharSequence text, AutolinkMatcher matcher) {
+        var result = ImmutableList.<Autolink>builder();
+        matcher.scan(text, 0, text.length(), 0, true, false, result::add);
+        return result.build();
+    }
+
+    /**
+     * Finds the URLs and the email addresses in the text, passing them to the given action
+     * in the order of their positions.
+     *
+     * <p>Of two overlapping links, the longer one is passed.
+     *
+     * <p>The links refer to the text, so the text must not be modified while they are used.
+     */
+    public static void scan(CharSequence text, Consumer<? super Autolink> action) {
+        checkNotNull(text);
+        checkNotNull(action);
+        var matcher = new AutolinkMatcher(true, true);
+        matcher.scan(text, 0, text.length(), 0, true, false, action);
+    }
+
+    /**
+     * Finds the URLs and the email addresses in the text read from the given reader,
+     * passing them to the given action in the order of their positions.
+     *
+     * <p>Of two overlapping links, the longer one is passed.
+     *
+     * <p>The text is read in chunks. Only the characters since the last whitespace are kept
+     * between the chunks, so a text of any length is scanned in a bounded memory unless it has
+     * long runs of characters without whitespace. The reader is not closed.
+     *
+     * @throws IllegalStateException
+     *         if the reader fails
+     */
+    public static void scan(Reader reader, Consumer<? super Autolink> action) {
+        checkNotNull(reader);
+        checkNotNull(action);
+        var matcher = new AutolinkMatcher(true, true);
+        var buffer = new StringBuilder(CHUNK_SIZE * 2);
+        var chunk = new char[CHUNK_SIZE];
+        var offset = 0L;
+        var scanned = 0;
+        try {
+            for (var count = reader.read(chunk); count >= 0; count = reader.read(chunk)) {
+                var unchecked = Math.max(scanned, buffer.length() - LOOKAHEAD + 1);
+                buffer.append(chunk, 0, count);
+                var limit = lastSpace(buffer, unchecked, buffer.length() - LOOKAHEAD);
+                if (limit > scanned) {
+                    matcher.scan(buffer, scanned, limit, offset, false, true, action);
+                    scanned = limit;
+                }
+                if (scanned >= CHUNK_SIZE) {
+                    buffer.delete(0, scanned);
+                    offset += scanned;
+                    scanned = 0;
+                }
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to read the text to scan.");
+        }
+        matcher.scan(buffer, scanned, buffer.length(), offset, true, true, action);
+    }
+
+    /**
+     * Finds the last whitespace character in the given range of the text.
+     *
+     * @return the index of the character, or {@code -1} if there is none
+     */
+    private static int lastSpace(CharSequence text, int start, int last) {
+        for (var i = last; i >= start; i--) {
+            var c = text.charAt(i);
+            if (c == ' ' || (c >= '\t' && c <= '\r')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A Bloom filter of domain names and email addresses.
+ *
+ * <p>The filter tells if a value is definitely not in a set, or might be in it. It is meant
+ * to sit in front of an exact set in which most lookups miss, so that the misses do not reach
+ * the exact set:
+ * <pre>{@code
+ * if (filter.mightContain(address) && suppressed.contains(address)) {
+ *     // The address is suppressed.
+ * }
+ * }</pre>
+ *
+ * <p>Values are normalized by converting ASCII letters to lower case, and hashed by
+ * a 64-bit hash computed right over the characters. The positions of the bits of a value are
+ * derived from its hash and a rehash of it. Lookups allocate nothing.
+ *
+ * <p>A filter may be {@linkplain #writeTo(Path) written} to a file and then
+ * {@linkplain #map(Path) mapped} from it. Mapped filters are read-only, and the operating
+ * system shares the pages of the file between all the processes which map it.
+ *
+ * <p>Adding values is not thread-safe. Once filled, a filter may be shared between threads.
+ */
+public final class BloomPrefilter {
+
+    /** The bytes which start a file of a filter: {@code "SBF1"}. */
+    private static final int MAGIC = 0x53424631;
+
+    /** The size of the file header: magic, hash count, and bit count. */
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+
+    private static final int MAX_HASHES = 30;
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - HEADER_SIZE) / Long.BYTES
+            * Long.SIZE;
+    private static final double LN_2 = Math.log(2);
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long MULTIPLIER = 0xBF58476D1CE4E5B9L;
+
+    private final LongBuffer bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final boolean readOnly;
+
+    private BloomPrefilter(LongBuffer bits, long bitCount, int hashCount, boolean readOnly) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Creates an empty filter sized for the given number of values.
+     *
+     * @param expectedSize
+     *         the number of values to be added
+     * @param falsePositiveRate
+     *         the share of absent values reported as present when the filter holds
+     *         the expected number of values; between 0 and 1, exclusive
+     * @throws IllegalArgumentException
+     *         if the size is not positive, the rate is out of range, or the filter would
+     *         need more than 2 GB
+     */
+    public static BloomPrefilter create(long expectedSize, double falsePositiveRate) {
+        checkArgument(expectedSize > 0, "The expected size must be positive.");
+        checkArgument(falsePositiveRate > 0 && falsePositiveRate < 1,
+                      "The false positive rate must be between 0 and 1, exclusive.");
+        var bitCount = (long) Math.ceil(
+                -expectedSize * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        if (bitCount > MAX_BITS) {
+            throw newIllegalArgumentException(
+                    "A filter of %d values with the false positive rate %s is too large.",
+                    expectedSize, falsePositiveRate);
+        }
+        var hashCount = (int) Math.round((double) bitCount / expectedSize * LN_2);
+        hashCount = Math.max(1, Math.min(MAX_HASHES, hashCount));
+        var words = (int) ((bitCount + Long.SIZE - 1) / Long.SIZE);
+        var bits = LongBuffer.allocate(words);
+        return new BloomPrefilter(bits, (long) words * Long.SIZE, hashCount, false);
+    }
+
+    /**
+     * Maps a filter from the file written by {@link #writeTo(Path)}.
+     *
+     * <p>The returned filter is read-only.
+     *
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     * @throws IllegalArgumentException
+     *         if the file does not hold a filter
+     */
+    public static BloomPrefilter map(Path file) {
+        checkNotNull(file);
+        try (var channel = FileChannel.open(file, READ)) {
+            var size = channel.size();
+            checkArgument(size >= HEADER_SIZE && size <= Integer.MAX_VALUE,
+                          "The file `%s` does not hold a Bloom filter.", file);
+            var buffer = channel.map(READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw newIllegalArgumentException(
+                        "The file `%s` does not hold a Bloom filter.", file);
+            }
+            var hashCount = buffer.getInt();
+            var bitCount = buffer.getLong();
+            var words = bitCount / Long.SIZE;
+            checkArgument(hashCount > 0 && hashCount <= MAX_HASHES
+                                  && bitCount > 0 && bitCount % Long.SIZE == 0
+                                  && size == HEADER_SIZE + words * Long.BYTES,
+                          "The Bloom filter in the file `%s` is corrupted.", file);
+            var bits = buffer.slice().asLongBuffer();
+            return new BloomPrefilter(bits, bitCount, hashCount, true);
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to map a Bloom filter from `%s`.", file);
+        }
+    }
+
+    /**
+     * Writes this filter to the given file, replacing its content.
+     *
+     * @throws IllegalStateException
+     *         if the file cannot be written
+     */
+    public void writeTo(Path file) {
+        checkNotNull(file);
+        var header = ByteBuffer.allocate(HEADER_SIZE)
+                               .putInt(MAGIC)
+                               .putInt(hashCount)
+                               .putLong(bitCount)
+                               .flip();
+        var body = ByteBuffer.allocate(bits.capacity() * Long.BYTES);
+        body.asLongBuffer()
+            .put(bits.duplicate().clear());
+        try (var channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to write a Bloom filter to `%s`.", file);
+        }
+    }
+
+    /**
+     * Adds the value to this filter.
+     *
+     * @throws IllegalStateException
+     *         if this filter is read-only
+     */
+    @CanIgnoreReturnValue
+    public BloomPrefilter put(CharSequence value) {
+        checkNotNull(value);
+        if (readOnly) {
+            throw newIllegalStateException("A mapped Bloom filter cannot be modified.");
+        }
+        var first = hash(value);
+        var second = mix(first + SEED);
+        for (var i = 0; i < hashCount; i++) {
+            var bit = index(first + i * second);
+            var word = (int) (bit >>> 6);
+            bits.put(word, bits.get(word) | (1L << bit));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the domain name to this filter.
+     */
+    @CanIgnoreReturnValue
+    public BloomPrefilter put(InternetDomain domain) {
+        checkNotNull(domain);
+        return put(domain.getValue());
+    }
+
+    /**
+     * Adds the email address to this filter.
+     */
+    @CanIgnoreReturnValue
+    public BloomPrefilter put(EmailAddress address) {
+        checkNotNull(address);
+        return put(address.getValue());
+    }
+
+    /**
+     * Tells if the value might have been added to this filter.
+     *
+     * @return {@code false} if the value was definitely not added, {@code true} otherwise
+     */
+    public boolean mightContain(CharSequence value) {
+        checkNotNull(value);
+        var first = hash(value);
+        var second = mix(first + SEED);
+        for (var i = 0; i < hashCount; i++) {
+            var bit = index(first + i * second);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells if the domain name might have been added to this filter.
+     */
+    public boolean mightContain(InternetDomain domain) {
+        checkNotNull(domain);
+        return mightContain(domain.getValue());
+    }
+
+    /**
+     * Tells if the email address might have been added to this filter.
+     */
+    public boolean mightContain(EmailAddress address) {
+        checkNotNull(address);
+        return mightContain(address.getValue());
+    }
+
+    /** Obtains the number of bits of this filter. */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /** Obtains the number of bits set for each value. */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Maps a hash to a bit of this filter.
+     *
+     * <p>The top 63 bits of the hash are taken as a fraction of the bit count,
+     * which avoids a division.
+     */
+    private long index(long hash) {
+        var fraction = hash >>> 1;
+        var high = Math.multiplyHigh(fraction, bitCount);
+        var low = fraction * bitCount;
+        return (high << 1) | (low >>> 63);
+    }
+
+    /**
+     * Computes the hash of the value with ASCII letters in lower case.
+     *
+     * <p>Characters are mixed in four at a time, packed into a {@code long}.
+     */
+    private static long hash(CharSequence value) {
+        var length = value.length();
+        var result = SEED ^ length;
+        var i = 0;
+        for (; i + 4 <= length; i += 4) {
+            var block = lower(value.charAt(i))
+                    | lower(value.charAt(i + 1)) << 16
+                    | lower(value.charAt(i + 2)) << 32
+                    | lower(value.charAt(i + 3)) << 48;
+            result = Long.rotateLeft((result ^ block) * MULTIPLIER, 29);
+        }
+        for (; i < length; i++) {
+            result = Long.rotateLeft((result ^ lower(value.charAt(i))) * MULTIPLIER, 29);
+        }
+        return mix(result);
+    }
+
+    private static long lower(char c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    /**
+     * Spreads the bits of the hash, as the final step of MurmurHash3 does.
+     */
+    private static long mix(long hash) {
+        var result = hash;
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        result ^= result >>> 33;
+        return result;
+    }
+}
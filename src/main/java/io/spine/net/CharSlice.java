@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * A read-only view of a region of a character sequence.
+ *
+ * <p>Characters are not copied until {@link #toString()} is called.
+ */
+final class CharSlice implements CharSequence {
+
+    private static final CharSlice EMPTY = new CharSlice("", 0, 0);
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    private CharSlice(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates a view of the given region of the sequence.
+     *
+     * @param source
+     *         the sequence to view
+     * @param start
+     *         the index of the first character of the region
+     * @param end
+     *         the index after the last character of the region
+     */
+    static CharSlice of(CharSequence source, int start, int end) {
+        checkPositionIndexes(start, end, source.length());
+        if (start == end) {
+            return EMPTY;
+        }
+        return new CharSlice(source, start, end);
+    }
+
+    /** Obtains an empty slice. */
+    static CharSlice empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        checkPositionIndexes(index, index + 1, length());
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        checkPositionIndexes(start, end, length());
+        return of(source, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(start, end)
+                     .toString();
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.net.CidrRanges.hasPrefix;
+import static io.spine.net.IpAddresses.IPV4_BITS;
+import static io.spine.net.IpAddresses.IPV6_BITS;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An immutable index of {@link CidrRange}s for matching IP addresses against allow and deny
+ * lists.
+ *
+ * <p>The index finds the longest range which contains an address, or tells if any range
+ * contains it. The ranges are identified by their positions in the order they were passed to
+ * the index, so that callers may keep the data associated with the ranges in arrays of their
+ * own.
+ *
+ * <p>The ranges are kept in two path-compressed binary tries, one per IP version, stored in
+ * one array of primitives. A lookup visits only the nodes where the ranges branch, that is,
+ * about {@code log2(n)} nodes for {@code n} ranges, and allocates nothing.
+ *
+ * <p>An IPv4 range never matches an IPv6 address, including an IPv4-mapped one, and vice versa.
+ *
+ * <p>The index is safe to share between threads.
+ */
+public final class CidrIndex {
+
+    private static final char COMMENT_START = '#';
+
+    /** The value of a reference to a child or a range which is absent. */
+    private static final int NONE = -1;
+
+    /** The root node of the IPv4 trie. */
+    private static final int IPV4_ROOT = 0;
+
+    /** The root node of the IPv6 trie. */
+    private static final int IPV6_ROOT = 1;
+
+    /** The position of the most significant 64 bits of the prefix in a node. */
+    private static final int HIGH = 0;
+
+    /** The position of the least significant 64 bits of the prefix in a node. */
+    private static final int LOW = 1;
+
+    /**
+     * The position of the children of a node.
+     *
+     * <p>The child which continues the prefix with a zero bit takes the high 32 bits,
+     * and the one which continues it with a one bit takes the low 32 bits.
+     */
+    private static final int CHILDREN = 2;
+
+    /**
+     * The position of the range of a node and the length of its prefix.
+     *
+     * <p>The index of the range takes the high 32 bits, and is {@link #NONE} for nodes
+     * which only branch. The prefix length takes the low 32 bits.
+     */
+    private static final int RANGE_AND_LENGTH = 3;
+
+    /** The number of {@code long}s per node. */
+    private static final int NODE_SIZE = 4;
+
+    private final ImmutableList<CidrRange> ranges;
+
+    /**
+     * The nodes of both tries, {@link #NODE_SIZE} elements per node.
+     *
+     * <p>The fields of a node are kept together so that visiting a node touches a single
+     * cache line. IPv4 prefixes take the leading 32 bits of the {@link #HIGH} field.
+     */
+    private final long[] nodes;
+
+    private CidrIndex(Builder builder) {
+        this.ranges = builder.ranges.build();
+        this.nodes = builder.pack();
+    }
+
+    /**
+     * Creates an index of the ranges written in the CIDR notation.
+     *
+     * @throws IllegalArgumentException
+     *         if one of the values is not a valid range
+     * @see CidrRanges#valueOf(String)
+     */
+    public static CidrIndex of(Iterable<String> ranges) {
+        checkNotNull(ranges);
+        var builder = new Builder();
+        for (var range : ranges) {
+            checkNotNull(range);
+            builder.add(CidrRanges.valueOf(range));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Loads the index from the given UTF-8 file.
+     *
+     * <p>The file lists one range in the CIDR notation per line. Empty lines and lines
+     * starting with {@code '#'} are ignored. The ranges are indexed in the order of
+     * the lines, not counting the ignored ones.
+     *
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     * @throws IllegalArgumentException
+     *         if one of the lines is not a valid range
+     */
+    public static CidrIndex load(Path file) {
+        checkNotNull(file);
+        var builder = new Builder();
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                var range = line.strip();
+                if (!range.isEmpty() && range.charAt(0) != COMMENT_START) {
+                    builder.add(CidrRanges.valueOf(range));
+                }
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to load CIDR ranges from `%s`.", file);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Finds the longest range which contains the IPv4 address.
+     *
+     * @param address
+     *         the address as a 32-bit number, the first octet being the most significant
+     * @return the index of the range, or {@code -1} if no range contains the address
+     */
+    public int matchIpv4(int address) {
+        var result = match(IPV4_ROOT, (long) address << IPV4_BITS, 0L, IPV4_BITS);
+        return result;
+    }
+
+    /**
+     * Finds the longest range which contains the IPv6 address.
+     *
+     * @param high
+     *         the most significant 64 bits of the address
+     * @param low
+     *         the least significant 64 bits of the address
+     * @return the index of the range, or {@code -1} if no range contains the address
+     */
+    public int matchIpv6(long high, long low) {
+        var result = match(IPV6_ROOT, high, low, IPV6_BITS);
+        return result;
+    }
+
+    /**
+     * Finds the longest range which contains the address.
+     *
+     * @return the index of the range, or {@code -1} if no range contains the address
+     */
+    public int match(IpAddress address) {
+        checkNotNull(address);
+        switch (address.getVersionCase()) {
+            case IPV4:
+                return matchIpv4(address.getIpv4());
+            case IPV6:
+                var ipv6 = address.getIpv6();
+                return matchIpv6(ipv6.getHigh(), ipv6.getLow());
+            default:
+                throw newIllegalArgumentException("The IP address `%s` is not set.", address);
+        }
+    }
+
+    /**
+     * Tells if any range contains the IPv4 address.
+     *
+     * @param address
+     *         the address as a 32-bit number, the first octet being the most significant
+     */
+    public boolean containsIpv4(int address) {
+        var result = matchIpv4(address) != NONE;
+        return result;
+    }
+
+    /**
+     * Tells if any range contains the IPv6 address.
+     *
+     * @param high
+     *         the most significant 64 bits of the address
+     * @param low
+     *         the least significant 64 bits of the address
+     */
+    public boolean containsIpv6(long high, long low) {
+        var result = matchIpv6(high, low) != NONE;
+        return result;
+    }
+
+    /**
+     * Tells if any range contains the address.
+     */
+    public boolean contains(IpAddress address) {
+        var result = match(address) != NONE;
+        return result;
+    }
+
+    /**
+     * Obtains the range by its index.
+     *
+     * @throws IndexOutOfBoundsException
+     *         if there is no range with such an index
+     */
+    public CidrRange range(int index) {
+        checkElementIndex(index, ranges.size());
+        return ranges.get(index);
+    }
+
+    /**
+     * Obtains the number of the ranges passed to the index, including duplicates.
+     */
+    public int size() {
+        return ranges.size();
+    }
+
+    /**
+     * Walks the trie down the bits of the address, remembering the last range on the way.
+     *
+     * <p>Prefixes are compared only at the nodes which have ranges. If a branching node
+     * does not match the address, the walk goes on, but cannot find a matching range below,
+     * as the prefixes of the ranges there are longer.
+     */
+    private int match(int root, long addressHigh, long addressLow, int bits) {
+        var result = NONE;
+        var base = root * NODE_SIZE;
+        while (true) {
+            var rangeAndLength = nodes[base + RANGE_AND_LENGTH];
+            var length = (int) rangeAndLength;
+            var range = (int) (rangeAndLength >> Integer.SIZE);
+            if (range != NONE) {
+                if (!hasPrefix(nodes[base + HIGH], nodes[base + LOW],
+                               addressHigh, addressLow, length)) {
+                    break;
+                }
+                result = range;
+            }
+            if (length == bits) {
+                break;
+            }
+            var bit = bit(addressHigh, addressLow, length);
+            var child = (int) (nodes[base + CHILDREN] >>> ((1 - bit) * Integer.SIZE));
+            if (child == NONE) {
+                break;
+            }
+            base = child * NODE_SIZE;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the bit of the 128-bit value at the given position, counting from the most
+     * significant bit.
+     */
+    private static int bit(long high, long low, int position) {
+        var result = position < Long.SIZE
+                     ? high >>> (Long.SIZE - 1 - position)
+                     : low >>> (IPV6_BITS - 1 - position);
+        return (int) result & 1;
+    }
+
+    /**
+     * Obtains the number of the leading bits the two 128-bit values have in common.
+     */
+    private static int commonPrefixLength(long high, long low, long otherHigh, long otherLow) {
+        var difference = high ^ otherHigh;
+        if (difference != 0) {
+            return Long.numberOfLeadingZeros(difference);
+        }
+        return Long.SIZE + Long.numberOfLeadingZeros(low ^ otherLow);
+    }
+
+    /**
+     * Builds the tries of an index, inserting the ranges one by one.
+     */
+    private static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final ImmutableList.Builder<CidrRange> ranges = ImmutableList.builder();
+        private int rangeCount;
+
+        private long[] high = new long[INITIAL_CAPACITY];
+        private long[] low = new long[INITIAL_CAPACITY];
+        private int[] lengths = new int[INITIAL_CAPACITY];
+        private int[] rangeIndexes = new int[INITIAL_CAPACITY];
+        private int[] children = new int[INITIAL_CAPACITY * 2];
+        private int count;
+
+        private Builder() {
+            newNode(0L, 0L, 0, NONE);
+            newNode(0L, 0L, 0, NONE);
+        }
+
+        private void add(CidrRange range) {
+            var address = range.getAddress();
+            var length = range.getPrefixLength();
+            if (address.hasIpv6()) {
+                var ipv6 = address.getIpv6();
+                insert(IPV6_ROOT, ipv6.getHigh(), ipv6.getLow(), length);
+            } else {
+                insert(IPV4_ROOT, (long) address.getIpv4() << IPV4_BITS, 0L, length);
+            }
+            ranges.add(range);
+            rangeCount++;
+        }
+
+        /**
+         * Inserts the prefix into the trie with the given root.
+         *
+         * <p>If the trie already has the prefix, the earlier range is kept for it.
+         */
+        private void insert(int root, long prefixHigh, long prefixLow, int length) {
+            var slot = NONE;
+            var node = root;
+            while (true) {
+                var nodeLength = lengths[node];
+                var common = Math.min(
+                        commonPrefixLength(high[node], low[node], prefixHigh, prefixLow),
+                        Math.min(nodeLength, length));
+                if (common < nodeLength) {
+                    split(slot, node, common, prefixHigh, prefixLow, length);
+                    return;
+                }
+                if (length == nodeLength) {
+                    if (rangeIndexes[node] == NONE) {
+                        rangeIndexes[node] = rangeCount;
+                    }
+                    return;
+                }
+                slot = 2 * node + bit(prefixHigh, prefixLow, nodeLength);
+                var child = children[slot];
+                if (child == NONE) {
+                    var leaf = newNode(prefixHigh, prefixLow, length, rangeCount);
+                    children[slot] = leaf;
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        /**
+         * Puts a new node with the common part of the prefixes of the node and the inserted
+         * range in place of the node.
+         *
+         * <p>The new node holds the range if its prefix is the common part. Otherwise,
+         * the range gets a node of its own next to the split one.
+         */
+        private void split(int slot, int node, int common,
+                           long prefixHigh, long prefixLow, int length) {
+            var rangeIndex = common == length ? rangeCount : NONE;
+            var parent = newNode(prefixHigh, prefixLow, common, rangeIndex);
+            children[2 * parent + bit(high[node], low[node], common)] = node;
+            if (rangeIndex == NONE) {
+                var leaf = newNode(prefixHigh, prefixLow, length, rangeCount);
+                children[2 * parent + bit(prefixHigh, prefixLow, common)] = leaf;
+            }
+            children[slot] = parent;
+        }
+
+        /**
+         * Appends a new node without children.
+         *
+         * <p>The arrays of the nodes may be replaced, so callers must not hold on to them
+         * across the call.
+         */
+        private int newNode(long prefixHigh, long prefixLow, int length, int rangeIndex) {
+            if (count == lengths.length) {
+                var capacity = count * 2;
+                high = Arrays.copyOf(high, capacity);
+                low = Arrays.copyOf(low, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                rangeIndexes = Arrays.copyOf(rangeIndexes, capacity);
+                children = Arrays.copyOf(children, capacity * 2);
+            }
+            var node = count++;
+            high[node] = prefixHigh & CidrRanges.prefixMask(length);
+            low[node] = prefixLow & CidrRanges.prefixMask(length - Long.SIZE);
+            lengths[node] = length;
+            rangeIndexes[node] = rangeIndex;
+            children[2 * node] = NONE;
+            children[2 * node + 1] = NONE;
+            return node;
+        }
+
+        /**
+         * Packs the fields of the nodes together.
+         */
+        private long[] pack() {
+            var result = new long[count * NODE_SIZE];
+            for (var node = 0; node < count; node++) {
+                var base = node * NODE_SIZE;
+                result[base + HIGH] = high[node];
+                result[base + LOW] = low[node];
+                result[base + CHILDREN] = (long) children[2 * node] << Integer.SIZE
+                        | children[2 * node + 1] & 0xFFFF_FFFFL;
+                result[base + RANGE_AND_LENGTH] = (long) rangeIndexes[node] << Integer.SIZE
+                        | lengths[node];
+            }
+            return result;
+        }
+
+        private CidrIndex build() {
+            return new CidrIndex(this);
+        }
+    }
+}
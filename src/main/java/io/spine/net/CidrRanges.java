@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.net.IpAddresses.IPV4_BITS;
+import static io.spine.net.IpAddresses.IPV6_BITS;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Utility class for working with {@link CidrRange}s.
+ *
+ * <p>A range is written as an IP address followed by a slash and the prefix length, for
+ * example {@code 192.0.2.0/24} or {@code 2001:db8::/32}. The bits of the address past
+ * the prefix must be zero: a range such as {@code 192.0.2.1/24} is rejected rather than
+ * silently widened, as it is most likely a typo in an allow or deny list.
+ *
+ * @see CidrIndex
+ */
+public final class CidrRanges {
+
+    private static final char SLASH = '/';
+    private static final int MAX_PREFIX_DIGITS = 3;
+
+    /** Prevent instantiation of this utility class. */
+    private CidrRanges() {
+    }
+
+    /**
+     * Parses the range written in the CIDR notation.
+     *
+     * @throws IllegalArgumentException
+     *         if the value is not a valid range
+     */
+    public static CidrRange valueOf(String value) {
+        checkNotNull(value);
+        var slash = value.lastIndexOf(SLASH);
+        if (slash < 0) {
+            throw newIllegalArgumentException(
+                    "The CIDR range `%s` has no prefix length.", value);
+        }
+        var address = value.substring(0, slash);
+        if (!IpAddresses.isValid(address)) {
+            throw newIllegalArgumentException(
+                    "The CIDR range `%s` has an invalid address.", value);
+        }
+        var prefixLength = parsePrefixLength(value, slash + 1, value.length());
+        if (prefixLength < 0) {
+            throw newIllegalArgumentException(
+                    "The CIDR range `%s` has an invalid prefix length.", value);
+        }
+        return of(IpAddresses.valueOf(address), prefixLength);
+    }
+
+    /**
+     * Creates a range of the addresses starting with the given prefix.
+     *
+     * @param address
+     *         the first address of the range
+     * @param prefixLength
+     *         the number of the leading bits shared by the addresses of the range
+     * @throws IllegalArgumentException
+     *         if the prefix length is out of bounds for the IP version of the address,
+     *         or if the address has non-zero bits past the prefix
+     */
+    public static CidrRange of(IpAddress address, int prefixLength) {
+        checkNotNull(address);
+        var bits = bits(address);
+        checkArgument(0 <= prefixLength && prefixLength <= bits,
+                      "The prefix length must be within [0, %s], but was %s.",
+                      bits, prefixLength);
+        if ((high(address) & ~prefixMask(prefixLength)) != 0
+                || (low(address) & ~prefixMask(prefixLength - Long.SIZE)) != 0) {
+            throw newIllegalArgumentException(
+                    "The address `%s` has non-zero bits past the prefix of %s bits.",
+                    IpAddresses.toString(address), prefixLength);
+        }
+        return CidrRange.newBuilder()
+                .setAddress(address)
+                .setPrefixLength(prefixLength)
+                .build();
+    }
+
+    /**
+     * Obtains the CIDR notation of the range.
+     */
+    public static String toString(CidrRange range) {
+        checkNotNull(range);
+        var result = IpAddresses.toString(range.getAddress()) + SLASH + range.getPrefixLength();
+        return result;
+    }
+
+    /**
+     * Tells if the range contains the address.
+     *
+     * <p>An IPv4 range never contains an IPv6 address, and vice versa.
+     */
+    public static boolean contains(CidrRange range, IpAddress address) {
+        checkNotNull(range);
+        checkNotNull(address);
+        var first = range.getAddress();
+        if (first.getVersionCase() != address.getVersionCase()) {
+            return false;
+        }
+        var result = hasPrefix(high(first), low(first), high(address), low(address),
+                               range.getPrefixLength());
+        return result;
+    }
+
+    /**
+     * Parses the prefix length in the given region of the sequence.
+     *
+     * @return the prefix length, or {@code -1} if the region is not a decimal number within
+     *         the length of an IPv6 address written without leading zeros
+     */
+    static int parsePrefixLength(CharSequence value, int start, int end) {
+        var length = end - start;
+        if (length == 0 || length > MAX_PREFIX_DIGITS
+                || (length > 1 && value.charAt(start) == '0')) {
+            return -1;
+        }
+        var result = 0;
+        for (var i = start; i < end; i++) {
+            var c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result <= IPV6_BITS ? result : -1;
+    }
+
+    /**
+     * Tells if the two 128-bit values have the same leading bits.
+     */
+    static boolean hasPrefix(long high, long low, long otherHigh, long otherLow, int length) {
+        if (length <= Long.SIZE) {
+            return ((high ^ otherHigh) & prefixMask(length)) == 0;
+        }
+        var result = high == otherHigh
+                && ((low ^ otherLow) & prefixMask(length - Long.SIZE)) == 0;
+        return result;
+    }
+
+    /**
+     * Obtains a mask of the given number of the leading bits of a {@code long}.
+     *
+     * <p>Lengths over {@code 64} produce a mask of all bits.
+     */
+    static long prefixMask(int length) {
+        if (length <= 0) {
+            return 0L;
+        }
+        return length >= Long.SIZE ? -1L : -1L << (Long.SIZE - length);
+    }
+
+    /**
+     * Obtains the most significant 64 bits of the address as a 128-bit value.
+     *
+     * <p>An IPv4 address takes the leading 32 bits.
+     */
+    private static long high(IpAddress address) {
+        return address.hasIpv6()
+               ? address.getIpv6().getHigh()
+               : (long) address.getIpv4() << IPV4_BITS;
+    }
+
+    private static long low(IpAddress address) {
+        return address.getIpv6().getLow();
+    }
+
+    private static int bits(IpAddress address) {
+        switch (address.getVersionCase()) {
+            case IPV4:
+                return IPV4_BITS;
+            case IPV6:
+                return IPV6_BITS;
+            default:
+                throw newIllegalArgumentException("The IP address `%s` is not set.", address);
+        }
+    }
+}
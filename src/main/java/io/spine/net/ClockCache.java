@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.math.IntMath;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.math.RoundingMode.CEILING;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded, lock-free cache of the values computed for keys.
+ *
+ * <p>The cache is split into sets of {@value #WAYS} slots. A key may only be stored in the set
+ * chosen by its hash code, so a lookup checks at most {@value #WAYS} slots. When a set is full,
+ * a new entry replaces one which was not used since the last eviction in the set,
+ * as the CLOCK algorithm does.
+ *
+ * <p>The key, hash and value of an entry are final, and entries are published with volatile
+ * writes, so readers never see a partially written entry and never block. Concurrent misses
+ * for the same key may compute the value more than once, and one of two concurrent insertions
+ * into a set may be lost. This only costs another computation later, as the cache is not
+ * a source of truth. The recency bit is the only mutable field of an entry. It is written
+ * without synchronization for the same reason, and only when it changes, so that hits on
+ * popular entries do not make cores contend for cache lines. A lost or stale write of the bit
+ * only changes which entry is evicted next.
+ *
+ * @param <K>
+ *         the type of the keys
+ * @param <V>
+ *         the type of the values
+ */
+final class ClockCache<K, V> {
+
+    /** The number of slots in a set. */
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<@Nullable Entry<K, V>> slots;
+    private final int setMask;
+    private final Function<? super K, ? extends V> compute;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *         the maximum number of entries, rounded up to a power of two of at least
+     *         {@value #WAYS}
+     * @param compute
+     *         the function which computes a value for a key missing in the cache
+     */
+    ClockCache(int capacity, Function<? super K, ? extends V> compute) {
+        checkArgument(capacity > 0, "The capacity must be positive, but was %s.", capacity);
+        checkNotNull(compute);
+        var sets = IntMath.ceilingPowerOfTwo(IntMath.divide(capacity, WAYS, CEILING));
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.compute = compute;
+    }
+
+    /**
+     * Obtains the value for the key, computing and caching it if the key is not in the cache.
+     */
+    V get(K key) {
+        checkNotNull(key);
+        var hash = spread(key.hashCode());
+        var first = (hash & setMask) * WAYS;
+        for (var i = first; i < first + WAYS; i++) {
+            var entry = slots.get(i);
+            if (entry != null && entry.hash == hash && entry.key.equals(key)) {
+                if (!entry.used) {
+                    entry.used = true;
+                }
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        V value = compute.apply(key);
+        put(first, new Entry<>(key, hash, value));
+        return value;
+    }
+
+    /**
+     * Stores the entry in the set starting at the given slot.
+     *
+     * <p>Takes the first empty slot, or else the first slot of an entry which is not marked
+     * as used, clearing the marks of the entries passed on the way. If all the entries are
+     * marked, the marks are cleared and the first entry is replaced.
+     */
+    private void put(int first, Entry<K, V> entry) {
+        var end = first + WAYS;
+        for (var i = first; i < end; i++) {
+            var current = slots.get(i);
+            if (current == null) {
+                slots.set(i, entry);
+                return;
+            }
+            if (current.hash == entry.hash && current.key.equals(entry.key)) {
+                return;
+            }
+        }
+        var victim = first;
+        for (var i = first; i < end; i++) {
+            var current = requireNonNull(slots.get(i));
+            if (!current.used) {
+                victim = i;
+                break;
+            }
+            current.used = false;
+        }
+        slots.set(victim, entry);
+    }
+
+    /**
+     * Obtains the number of lookups which found the key in the cache.
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Obtains the number of lookups which computed the value.
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Obtains the maximum number of entries in the cache.
+     */
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Mixes the high bits of the hash code into the low ones, which choose the set.
+     */
+    private static int spread(int hashCode) {
+        var result = hashCode * 0x9E3779B9;
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * A cached value of a key.
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final int hash;
+        private final V value;
+
+        /**
+         * Tells if the entry was used since it was stored or since the last eviction
+         * in its set.
+         */
+        private boolean used;
+
+        private Entry(K key, int hash, V value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+}
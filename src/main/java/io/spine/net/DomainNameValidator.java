@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+/**
+ * Verifies Internet host names without regular expressions.
+ *
+ * <p>The validator accepts the language of {@link Patterns#HOST_NAME_PATTERN} limited to
+ * {@value #MAX_NAME_LENGTH} characters. A name consists of two or more labels separated
+ * by dots:
+ * <ol>
+ *     <li>every label but the last one has 1 to {@value #MAX_LABEL_LENGTH} letters, digits,
+ *         hyphens and non-space Unicode characters allowed by RFC 3987, and neither starts nor
+ *         ends with a hyphen;
+ *     <li>the last label is either a Punycode label which starts with {@code "xn--"} and ends
+ *         with a letter, a digit or an underscore, or 2 to {@value #MAX_LABEL_LENGTH} letters
+ *         and Unicode characters.
+ * </ol>
+ *
+ * <p>As labels may not contain dots, each of them is verified once, as the name is walked from
+ * left to right. Lengths of labels are counted in code points, as the pattern does.
+ */
+final class DomainNameValidator {
+
+    /** The maximum length of a host name, as defined by RFC 1035. */
+    static final int MAX_NAME_LENGTH = 253;
+
+    /** The maximum length of a label, as defined by RFC 1035. */
+    static final int MAX_LABEL_LENGTH = 63;
+
+    private static final char DOT = '.';
+    private static final char HYPHEN = '-';
+    private static final String PUNYCODE_PREFIX = "xn--";
+    private static final int MIN_TLD_LENGTH = 2;
+
+    /** Prevent instantiation of this utility class. */
+    private DomainNameValidator() {
+    }
+
+    /**
+     * Verifies if the passed sequence is a valid host name.
+     */
+    static boolean isValid(CharSequence name) {
+        var result = topLevelLabelStart(name) >= 0;
+        return result;
+    }
+
+    /**
+     * Verifies if the passed sequence is a valid host name which ends with
+     * a {@linkplain TopLevelDomains known} or a Punycode top-level domain.
+     *
+     * <p>Accepts the names matched by the strict host name expression of {@link Patterns},
+     * except that the case of ASCII letters of the top-level domain is ignored.
+     */
+    static boolean hasKnownTopLevelDomain(CharSequence name) {
+        var start = topLevelLabelStart(name);
+        if (start < 0) {
+            return false;
+        }
+        var end = name.length();
+        var result = isPunycodeLabel(name, start, end)
+                || TopLevelDomains.contains(name, start, end);
+        return result;
+    }
+
+    /**
+     * Verifies the passed host name and finds where its last label starts.
+     *
+     * @return the index of the first character of the last label,
+     *         or {@code -1} if the name is not valid
+     */
+    private static int topLevelLabelStart(CharSequence name) {
+        var length = name.length();
+        if (length > MAX_NAME_LENGTH) {
+            return -1;
+        }
+        var labelStart = 0;
+        var labels = 0;
+        for (var i = 0; i < length; i++) {
+            if (name.charAt(i) == DOT) {
+                if (!isLabel(name, labelStart, i)) {
+                    return -1;
+                }
+                labels++;
+                labelStart = i + 1;
+            }
+        }
+        if (labels == 0 || !isTopLevelLabel(name, labelStart, length)) {
+            return -1;
+        }
+        return labelStart;
+    }
+
+    /**
+     * Verifies if the given region is a label which is not the last one.
+     */
+    static boolean isLabel(CharSequence name, int start, int end) {
+        if (start == end
+                || name.charAt(start) == HYPHEN
+                || name.charAt(end - 1) == HYPHEN) {
+            return false;
+        }
+        var codePoints = 0;
+        for (var i = start; i < end; codePoints++) {
+            var c = Character.codePointAt(name, i);
+            if (c != HYPHEN && !isLetterOrDigit(c)) {
+                return false;
+            }
+            i += Character.charCount(c);
+        }
+        return codePoints <= MAX_LABEL_LENGTH;
+    }
+
+    /**
+     * Verifies if the given region is the last label of a name.
+     */
+    private static boolean isTopLevelLabel(CharSequence name, int start, int end) {
+        return isPunycodeLabel(name, start, end) || isLetterLabel(name, start, end);
+    }
+
+    private static boolean isPunycodeLabel(CharSequence name, int start, int end) {
+        var length = end - start;
+        var prefixLength = PUNYCODE_PREFIX.length();
+        if (length <= prefixLength || length > MAX_LABEL_LENGTH) {
+            return false;
+        }
+        for (var i = 0; i < prefixLength; i++) {
+            if (name.charAt(start + i) != PUNYCODE_PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        for (var i = start + prefixLength; i < end; i++) {
+            var c = name.charAt(i);
+            if (!isWordChar(c) && (c != HYPHEN || i == end - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetterLabel(CharSequence name, int start, int end) {
+        var codePoints = 0;
+        for (var i = start; i < end; codePoints++) {
+            var c = Character.codePointAt(name, i);
+            if (!isAsciiLetter(c) && !isUcsChar(c)) {
+                return false;
+            }
+            i += Character.charCount(c);
+        }
+        return codePoints >= MIN_TLD_LENGTH && codePoints <= MAX_LABEL_LENGTH;
+    }
+
+    private static boolean isLetterOrDigit(int c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || isUcsChar(c);
+    }
+
+    private static boolean isWordChar(int c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Tells if the passed code point is a non-space UCS character as defined in RFC 3987.
+     *
+     * <p>Matches the {@code UCS_CHAR} class of {@link Patterns}, which leaves out
+     * the plane 14 code points below {@code U+E1000}.
+     */
+    static boolean isUcsChar(int c) {
+        if (c < 0xA0) {
+            return false;
+        }
+        if (c <= 0xD7FF) {
+            return !isSpace(c);
+        }
+        if (c <= 0xFFFF) {
+            return (c >= 0xF900 && c <= 0xFDCF) || (c >= 0xFDF0 && c <= 0xFFEF);
+        }
+        if (c < 0xE0000) {
+            return (c & 0xFFFF) <= 0xFFFD;
+        }
+        return c >= 0xE1000 && c <= 0xEFFFD;
+    }
+
+    private static boolean isSpace(int c) {
+        return c == 0xA0
+                || (c >= 0x2000 && c <= 0x200A)
+                || c == 0x2028
+                || c == 0x2029
+                || c == 0x202F
+                || c == 0x3000;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.net.LabelTrie.ABSENT;
+import static io.spine.net.LabelTrie.ROOT;
+import static io.spine.net.LabelTrie.labelStart;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An immutable set of domain names which matches the names and all their subdomains.
+ *
+ * <p>Suits block and allow lists: a host matches the set if the host itself or any of its
+ * parent domains is in the set. For example, a set of {@code example.com} matches
+ * {@code example.com} and {@code www.example.com}, but not {@code example.org} or
+ * {@code myexample.com}.
+ *
+ * <p>The names are kept in a {@linkplain LabelTrie prefix tree of labels}. A lookup walks
+ * the labels of a host from the top-level one and takes time proportional to the number of
+ * labels. It allocates nothing. Names are compared ignoring the case of ASCII letters.
+ *
+ * <p>The set is safe to share between threads.
+ */
+public final class DomainSuffixSet {
+
+    private static final char COMMENT_START = '#';
+
+    /** The flag of a node which stands for a name of the set. */
+    private static final int ENTRY = 1;
+
+    private final LabelTrie names;
+    private final int size;
+
+    private DomainSuffixSet(LabelTrie names, int size) {
+        this.names = names;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new set of the passed domain names.
+     *
+     * @throws IllegalArgumentException
+     *         if one of the names is empty or has an empty label
+     */
+    public static DomainSuffixSet of(Iterable<String> domains) {
+        checkNotNull(domains);
+        var builder = new Builder();
+        for (var domain : domains) {
+            builder.add(domain);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Loads the set from the given UTF-8 file.
+     *
+     * <p>The file lists one domain name per line. Empty lines and lines starting with
+     * {@code '#'} are ignored. The file is read line by line, but the names are kept until
+     * the set is built, so the memory needed for loading grows with the number of names.
+     *
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     * @throws IllegalArgumentException
+     *         if one of the names has an empty label
+     */
+    public static DomainSuffixSet load(Path file) {
+        checkNotNull(file);
+        var builder = new Builder();
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                var name = line.strip();
+                if (!name.isEmpty() && name.charAt(0) != COMMENT_START) {
+                    builder.add(name);
+                }
+            }
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to load domain names from `%s`.", file);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Tells if the passed host or any of its parent domains is in this set.
+     *
+     * @param host
+     *         the host name, without a trailing dot
+     */
+    public boolean matches(CharSequence host) {
+        var result = matchStart(host) >= 0;
+        return result;
+    }
+
+    /**
+     * Tells if the passed domain or any of its parent domains is in this set.
+     */
+    public boolean matches(InternetDomain domain) {
+        checkNotNull(domain);
+        return matches(domain.getValue());
+    }
+
+    /**
+     * Finds the shortest suffix of the host which is in this set.
+     *
+     * @param host
+     *         the host name, without a trailing dot
+     * @return the index of the first character of the matching parent domain, {@code 0} if
+     *         only the host itself is in the set, or {@code -1} if neither the host nor
+     *         a parent domain is in the set
+     */
+    public int matchStart(CharSequence host) {
+        checkNotNull(host);
+        var end = host.length();
+        var node = ROOT;
+        while (end > 0) {
+            var start = labelStart(host, end);
+            if (start == end) {
+                return -1;
+            }
+            node = names.child(node, host, start, end);
+            if (node == ABSENT) {
+                return -1;
+            }
+            if ((names.flags(node) & ENTRY) != 0) {
+                return start;
+            }
+            if (start == 0) {
+                return -1;
+            }
+            end = start - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Obtains the number of distinct names in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Collects the names of a new set.
+     */
+    private static final class Builder {
+
+        private final LabelTrie.Builder names = LabelTrie.newBuilder();
+
+        private void add(String domain) {
+            checkNotNull(domain);
+            names.add(domain, ENTRY);
+        }
+
+        private DomainSuffixSet build() {
+            var trie = names.build();
+            return new DomainSuffixSet(trie, trie.count(ENTRY));
+        }
+    }
+}
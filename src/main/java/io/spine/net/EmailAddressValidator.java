@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+/**
+ * Verifies email addresses without regular expressions.
+ *
+ * <p>The validator accepts exactly the language of {@link Patterns#EMAIL_ADDRESS}:
+ * <ol>
+ *     <li>a local part of 1 to 256 letters, digits and {@code + . _ % -} characters;
+ *     <li>the {@code '@'} character;
+ *     <li>a label of 1 to 65 letters, digits and hyphens, not starting with a hyphen;
+ *     <li>one or more labels of 1 to 26 such characters, each preceded by a dot.
+ * </ol>
+ *
+ * <p>Since none of the parts may contain the delimiter which ends it, the address is verified
+ * in a single left-to-right pass without backtracking and without allocating memory.
+ */
+final class EmailAddressValidator {
+
+    private static final char AT = '@';
+    private static final char DOT = '.';
+
+    private static final int MAX_LOCAL_PART_LENGTH = 256;
+    private static final int MAX_FIRST_LABEL_LENGTH = 65;
+    private static final int MAX_LABEL_LENGTH = 26;
+
+    /** The flag of characters which may appear in the local part. */
+    private static final byte LOCAL = 1;
+
+    /** The flag of characters which may start a domain label. */
+    private static final byte LABEL_START = 2;
+
+    /** The flag of characters which may continue a domain label. */
+    private static final byte LABEL = 4;
+
+    /**
+     * Flags of ASCII characters.
+     *
+     * <p>The pattern admits no characters outside ASCII, so there is no table for them.
+     */
+    private static final byte[] FLAGS = new byte[128];
+
+    static {
+        for (var c = 'a'; c <= 'z'; c++) {
+            mark(c, LOCAL | LABEL_START | LABEL);
+            mark(Character.toUpperCase(c), LOCAL | LABEL_START | LABEL);
+        }
+        for (var c = '0'; c <= '9'; c++) {
+            mark(c, LOCAL | LABEL_START | LABEL);
+        }
+        mark('-', LOCAL | LABEL);
+        mark('+', LOCAL);
+        mark('.', LOCAL);
+        mark('_', LOCAL);
+        mark('%', LOCAL);
+    }
+
+    /** Prevent instantiation of this utility class. */
+    private EmailAddressValidator() {
+    }
+
+    private static void mark(char c, int flags) {
+        FLAGS[c] = (byte) flags;
+    }
+
+    private static boolean is(char c, byte flag) {
+        return c < FLAGS.length && (FLAGS[c] & flag) != 0;
+    }
+
+    /**
+     * Verifies if the passed sequence is a valid email address.
+     */
+    static boolean isValid(CharSequence value) {
+        var length = value.length();
+        var at = localPartEnd(value, length);
+        if (at <= 0 || at >= length) {
+            return false;
+        }
+        var result = isValidDomain(value, at + 1, length);
+        return result;
+    }
+
+    /**
+     * Obtains the index of the {@code '@'} which ends the local part.
+     *
+     * @return the index of {@code '@'}, the length of the value if there is none,
+     *         or {@code -1} if the local part is invalid
+     */
+    private static int localPartEnd(CharSequence value, int length) {
+        var limit = Math.min(length, MAX_LOCAL_PART_LENGTH + 1);
+        for (var i = 0; i < limit; i++) {
+            var c = value.charAt(i);
+            if (c == AT) {
+                return i;
+            }
+            if (!is(c, LOCAL)) {
+                return -1;
+            }
+        }
+        return limit == length ? length : -1;
+    }
+
+    private static boolean isValidDomain(CharSequence value, int start, int end) {
+        var labelStart = start;
+        var maxLength = MAX_FIRST_LABEL_LENGTH;
+        var labels = 0;
+        for (var i = start; i <= end; i++) {
+            if (i == end || value.charAt(i) == DOT) {
+                var labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > maxLength) {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+                maxLength = MAX_LABEL_LENGTH;
+            } else {
+                var flag = i == labelStart ? LABEL_START : LABEL;
+                if (!is(value.charAt(i), flag)) {
+                    return false;
+                }
+            }
+        }
+        return labels > 1;
+    }
+}
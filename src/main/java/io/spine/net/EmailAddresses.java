@@ -29,6 +29,7 @@ package io.spine.net;
 import io.spine.net.string.NetStringifiers;
 import io.spine.string.Stringifier;
 
+import java.util.Iterator;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -54,13 +55,52 @@ public final class EmailAddresses {
 
     /**
      * Verifies if the passed sequence is a valid email address.
+     *
+     * <p>The method accepts the same addresses as the {@linkplain #pattern() pattern} does,
+     * but verifies them without running a regular expression.
+     *
+     * @see ValidationCache
      */
     public static boolean isValid(String value) {
-        var matcher = pattern().matcher(value);
-        var result = matcher.matches();
+        checkNotNull(value);
+        var result = EmailAddressValidator.isValid(value);
         return result;
     }
 
+    /**
+     * Creates email addresses from the values which are known to be valid, without validating them.
+     *
+     * <p>Suits loading the values which were validated before they were stored. The values
+     * are converted lazily, as the returned iterator advances.
+     *
+     * @see #fromTrusted(Iterator, int)
+     */
+    public static Iterator<EmailAddress> fromTrusted(Iterator<String> values) {
+        return fromTrusted(values, 0);
+    }
+
+    /**
+     * Creates email addresses from the values which are known to be valid, validating only
+     * a sample of them.
+     *
+     * <p>The first value and then every {@code sampleInterval}-th one are validated, so that
+     * corrupt data is caught at a fraction of the cost of validating all the values.
+     * The values are converted lazily, as the returned iterator advances.
+     *
+     * @param values
+     *         the values to convert
+     * @param sampleInterval
+     *         the number of the values per a validated one, or {@code 0} to validate none
+     * @throws IllegalArgumentException
+     *         if the sample interval is negative; the {@code next()} method of
+     *         the returned iterator throws it if a validated value is not valid
+     */
+    public static Iterator<EmailAddress> fromTrusted(Iterator<String> values, int sampleInterval) {
+        checkNotNull(values);
+        return new TrustedValues<>(values, EmailAddresses::isValid, EmailAddresses::newAddress,
+                                   sampleInterval, "email address");
+    }
+
     /**
      * Obtains string representation of the passed email address.
      */
@@ -84,6 +124,12 @@ public final class EmailAddresses {
         return requireNonNull(result);
     }
 
+    private static EmailAddress newAddress(String value) {
+        return EmailAddress.newBuilder()
+                .setValue(value)
+                .build();
+    }
+
     private static Stringifier<EmailAddress> stringifier() {
         return NetStringifiers.forEmailAddress();
     }
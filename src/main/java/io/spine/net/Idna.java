@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import static io.spine.net.DomainNameValidator.MAX_LABEL_LENGTH;
+import static io.spine.net.DomainNameValidator.MAX_NAME_LENGTH;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.text.Normalizer.Form.NFKC;
+
+/**
+ * Converts domain names between the Unicode form and the ASCII form of Internationalized
+ * Domain Names (IDNA).
+ *
+ * <p>Names which need no conversion are returned as they are, without allocating memory:
+ * ASCII names when converting to ASCII, and names without {@code xn--} labels when converting
+ * to Unicode.
+ *
+ * <p>When converting to ASCII, non-ASCII labels are mapped to lower case and to the NFKC
+ * normal form, and then encoded with {@link Punycode}. This is close to the mapping of UTS #46
+ * in the non-transitional mode, so the sharp s and the final sigma are kept as they are.
+ * Other IDNA validity rules, such as the bidirectional text rules, are not applied.
+ * The ideographic and full-width full stops separate labels as the ASCII one does.
+ */
+final class Idna {
+
+    /** The prefix of the ASCII labels which encode Unicode ones. */
+    private static final String ACE_PREFIX = "xn--";
+
+    private static final char DOT = '.';
+
+    /** Prevent instantiation of this utility class. */
+    private Idna() {
+    }
+
+    /**
+     * Converts the domain name to the ASCII form.
+     *
+     * @throws IllegalArgumentException
+     *         if the name cannot be converted to a valid ASCII domain name
+     */
+    static String toAscii(String name) {
+        if (isAscii(name)) {
+            return name;
+        }
+        var buffer = new char[MAX_NAME_LENGTH];
+        var label = new char[MAX_LABEL_LENGTH];
+        var out = 0;
+        var start = 0;
+        var length = name.length();
+        for (var i = 0; i <= length; i++) {
+            if (i < length && !isLabelSeparator(name.charAt(i))) {
+                continue;
+            }
+            var labelLength = toAsciiLabel(name, start, i, label);
+            if (labelLength == Punycode.FAILED
+                    || out + labelLength + (i < length ? 1 : 0) > buffer.length) {
+                throw newIllegalArgumentException(
+                        "The domain name `%s` is too long in the ASCII form.", name);
+            }
+            System.arraycopy(label, 0, buffer, out, labelLength);
+            out += labelLength;
+            if (i < length) {
+                buffer[out++] = DOT;
+            }
+            start = i + 1;
+        }
+        var result = new String(buffer, 0, out);
+        if (!DomainNameValidator.isValid(result)) {
+            throw newIllegalArgumentException(
+                    "The domain name `%s` is not valid in the ASCII form `%s`.", name, result);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the ASCII form of the label to the buffer.
+     *
+     * @return the length of the ASCII label, or {@link Punycode#FAILED} if it does not fit
+     *         into the buffer
+     */
+    private static int toAsciiLabel(String name, int start, int end, char[] target) {
+        if (isAscii(name, start, end)) {
+            if (end - start > target.length) {
+                return Punycode.FAILED;
+            }
+            name.getChars(start, end, target, 0);
+            return end - start;
+        }
+        var mapped = Normalizer.normalize(name.substring(start, end)
+                                              .toLowerCase(Locale.ROOT), NFKC);
+        if (isAscii(mapped)) {
+            return toAsciiLabel(mapped, 0, mapped.length(), target);
+        }
+        ACE_PREFIX.getChars(0, ACE_PREFIX.length(), target, 0);
+        var result = Punycode.encode(mapped, 0, mapped.length(), target, ACE_PREFIX.length());
+        return result;
+    }
+
+    /**
+     * Converts the domain name to the Unicode form.
+     *
+     * <p>The labels which are not valid Punycode are left as they are.
+     */
+    static String toUnicode(String name) {
+        if (!hasAceLabel(name)) {
+            return name;
+        }
+        var length = name.length();
+        var buffer = new char[length * 2];
+        var out = 0;
+        var start = 0;
+        for (var i = 0; i <= length; i++) {
+            if (i < length && name.charAt(i) != DOT) {
+                continue;
+            }
+            var decoded = isAceLabel(name, start, i)
+                          ? decodeLabel(name, start, i, buffer, out)
+                          : Punycode.FAILED;
+            if (decoded == Punycode.FAILED) {
+                name.getChars(start, i, buffer, out);
+                out += i - start;
+            } else {
+                out = decoded;
+            }
+            if (i < length) {
+                buffer[out++] = DOT;
+            }
+            start = i + 1;
+        }
+        return new String(buffer, 0, out);
+    }
+
+    /**
+     * Decodes the {@code xn--} label into the buffer.
+     *
+     * <p>The label is only decoded if the decoded label has non-ASCII characters, is a valid
+     * label of a domain name, and converts back to the same ASCII label, ignoring the case of
+     * ASCII letters. So labels which decode to control characters, or to characters changed by
+     * the mapping, such as non-ASCII upper case letters, are not decoded. ASCII letters of
+     * the decoded label are converted to lower case, as the mapping does.
+     *
+     * @return the index in the buffer past the decoded label, or {@link Punycode#FAILED}
+     */
+    private static int decodeLabel(String name, int start, int end, char[] target, int offset) {
+        var result = Punycode.decode(name, start + ACE_PREFIX.length(), end, target, offset);
+        if (result == Punycode.FAILED || isAscii(target, offset, result)) {
+            return Punycode.FAILED;
+        }
+        var decoded = new String(target, offset, result - offset);
+        if (!DomainNameValidator.isLabel(decoded, 0, decoded.length())) {
+            return Punycode.FAILED;
+        }
+        var encoded = new char[MAX_LABEL_LENGTH];
+        var encodedLength = toAsciiLabel(decoded, 0, decoded.length(), encoded);
+        if (encodedLength != end - start) {
+            return Punycode.FAILED;
+        }
+        for (var i = 0; i < encodedLength; i++) {
+            if (toLowerCase(name.charAt(start + i)) != toLowerCase(encoded[i])) {
+                return Punycode.FAILED;
+            }
+        }
+        for (var i = offset; i < result; i++) {
+            target[i] = toLowerCase(target[i]);
+        }
+        return result;
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Tells if the name has only ASCII characters and so needs no conversion to ASCII.
+     */
+    static boolean isAscii(String name) {
+        return isAscii(name, 0, name.length());
+    }
+
+    /**
+     * Tells if the name has an {@code xn--} label and so needs conversion to Unicode.
+     */
+    static boolean hasAceLabel(String name) {
+        var length = name.length();
+        for (var start = 0; start < length; ) {
+            var end = name.indexOf(DOT, start);
+            if (end < 0) {
+                end = length;
+            }
+            if (isAceLabel(name, start, end)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isAceLabel(String name, int start, int end) {
+        var result = end - start > ACE_PREFIX.length()
+                && name.regionMatches(true, start, ACE_PREFIX, 0, ACE_PREFIX.length());
+        return result;
+    }
+
+    private static boolean isAscii(CharSequence value, int start, int end) {
+        for (var i = start; i < end; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(char[] value, int start, int end) {
+        for (var i = start; i < end; i++) {
+            if (value[i] >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells if the character separates labels: the full stop, the ideographic full stop,
+     * the full-width full stop, or the half-width ideographic full stop.
+     */
+    private static boolean isLabelSeparator(char c) {
+        return c == DOT || c == '\u3002' || c == '\uFF0E' || c == '\uFF61';
+    }
+}
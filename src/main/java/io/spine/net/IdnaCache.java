@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of the conversions of {@link InternetDomain}s between the Unicode and
+ * the ASCII forms of Internationalized Domain Names.
+ *
+ * <p>The conversions are the same as those of {@link InternetDomains#toAscii(InternetDomain)}
+ * and {@link InternetDomains#toUnicode(InternetDomain)}. The domains which need no conversion
+ * are returned as they are and never take space in the cache, so the cache holds only
+ * the most recently used of the Unicode hosts and the {@code xn--} ones.
+ *
+ * <p>The cache is safe to use from many threads without locking.
+ */
+public final class IdnaCache {
+
+    private final ClockCache<String, InternetDomain> ascii;
+    private final ClockCache<String, InternetDomain> unicode;
+
+    private IdnaCache(int capacity) {
+        this.ascii = new ClockCache<>(capacity,
+                                      name -> InternetDomains.newDomain(Idna.toAscii(name)));
+        this.unicode = new ClockCache<>(capacity,
+                                        name -> InternetDomains.newDomain(Idna.toUnicode(name)));
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *         the maximum number of the cached conversions in each direction, rounded up to
+     *         a power of two
+     * @throws IllegalArgumentException
+     *         if the capacity is not positive
+     */
+    public static IdnaCache create(int capacity) {
+        return new IdnaCache(capacity);
+    }
+
+    /**
+     * Converts the domain to the ASCII form.
+     *
+     * @throws IllegalArgumentException
+     *         if the domain cannot be converted to a valid ASCII domain name
+     * @see InternetDomains#toAscii(InternetDomain)
+     */
+    public InternetDomain toAscii(InternetDomain domain) {
+        checkNotNull(domain);
+        var name = domain.getValue();
+        var result = Idna.isAscii(name) ? domain : ascii.get(name);
+        return result;
+    }
+
+    /**
+     * Converts the domain to the Unicode form.
+     *
+     * @see InternetDomains#toUnicode(InternetDomain)
+     */
+    public InternetDomain toUnicode(InternetDomain domain) {
+        checkNotNull(domain);
+        var name = domain.getValue();
+        var result = Idna.hasAceLabel(name) ? unicode.get(name) : domain;
+        return result;
+    }
+
+    /**
+     * Obtains the number of the conversions found in the cache.
+     */
+    public long hitCount() {
+        return ascii.hitCount() + unicode.hitCount();
+    }
+
+    /**
+     * Obtains the number of the conversions which were computed.
+     *
+     * <p>The domains which need no conversion are not counted.
+     */
+    public long missCount() {
+        return ascii.missCount() + unicode.missCount();
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.net.UrlParser.Mode;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static io.spine.net.UrlScanner.TABLE_SIZE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Parses a URL which arrives in chunks, such as a request target split between network
+ * buffers.
+ *
+ * <p>The chunks are passed to the parser one by one as they arrive. Bytes are decoded as
+ * UTF-8, and a character may be split between two byte chunks. Each chunk is scanned by
+ * {@link UrlScanner} right away, so when the input ends, the boundaries of the URL components
+ * are already known, and the URL is not scanned again:
+ * <pre>{@code
+ * var parser = IncrementalUrlParser.newInstance(UrlParser.Mode.STRICT);
+ * parser.accept(firstBuffer);
+ * parser.accept(secondBuffer);
+ * var uri = parser.finish();
+ * }</pre>
+ *
+ * <p>The URL is parsed by the rules of {@link UrlParser} working in the same
+ * {@linkplain Mode mode}. Malformed UTF-8 sequences are decoded to {@code U+FFFD}, as it is
+ * done by the {@linkplain java.nio.charset.StandardCharsets#UTF_8 standard decoder}.
+ *
+ * <p>A parser is reusable. When a URL is finished, the parser is ready to accept the next one.
+ * It keeps the characters of the URL in a buffer which only grows, so parsing a URL produces
+ * no garbage except for the result. A parser is not thread-safe.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize" /* which is dubious rule. */)
+public final class IncrementalUrlParser {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** The maximum number of bytes of an incomplete UTF-8 sequence plus a byte to complete it. */
+    private static final int MAX_SEQUENCE = 4;
+
+    private final UrlParser parser;
+    private final UrlScanner scanner = new UrlScanner();
+    private final int[] table = new int[TABLE_SIZE];
+
+    private final CharsetDecoder decoder = UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /** The bytes of a character which is split between byte chunks. */
+    private final ByteBuffer pending = ByteBuffer.allocate(MAX_SEQUENCE);
+
+    /** The characters of the URL accepted so far. */
+    private char[] chars = new char[INITIAL_CAPACITY];
+
+    /** The number of characters of the URL accepted so far. */
+    private int length;
+
+    /** The buffer over {@link #chars} which the decoded bytes are written to. */
+    private CharBuffer output = CharBuffer.wrap(chars);
+
+    private IncrementalUrlParser(Mode mode) {
+        this.parser = UrlParser.newInstance(mode);
+    }
+
+    /**
+     * Creates a new lenient parser.
+     */
+    public static IncrementalUrlParser newInstance() {
+        return newInstance(Mode.LENIENT);
+    }
+
+    /**
+     * Creates a new parser working in the given mode.
+     */
+    public static IncrementalUrlParser newInstance(Mode mode) {
+        checkNotNull(mode);
+        return new IncrementalUrlParser(mode);
+    }
+
+    /** Obtains the mode of this parser. */
+    public Mode mode() {
+        return parser.mode();
+    }
+
+    /**
+     * Accepts the remaining bytes of the given buffer as the next chunk of the URL.
+     *
+     * <p>The bytes are consumed, so the buffer has no remaining bytes after the call.
+     * The bytes of a character which is not complete at the end of the chunk are kept until
+     * the next chunk.
+     */
+    public void accept(ByteBuffer chunk) {
+        checkNotNull(chunk);
+        ensureCapacity(pending.position() + chunk.remaining());
+        if (pending.position() == 0) {
+            acceptAscii(chunk);
+        }
+        while (pending.position() > 0 && chunk.hasRemaining()) {
+            pending.put(chunk.get());
+            pending.flip();
+            decode(pending, false);
+            pending.compact();
+        }
+        if (chunk.hasRemaining()) {
+            decode(chunk, false);
+            pending.put(chunk);
+        }
+    }
+
+    /**
+     * Accepts the given characters as the next chunk of the URL.
+     *
+     * <p>If the bytes accepted before end with an incomplete character, it is decoded
+     * to {@code U+FFFD}.
+     */
+    public void accept(char[] chunk, int offset, int count) {
+        checkNotNull(chunk);
+        checkPositionIndexes(offset, offset + count, chunk.length);
+        completePending();
+        ensureCapacity(count);
+        System.arraycopy(chunk, offset, chars, length, count);
+        scanner.accept(chars, length, length + count);
+        length += count;
+    }
+
+    /**
+     * Accepts the given characters as the next chunk of the URL.
+     *
+     * @see #accept(char[], int, int)
+     */
+    public void accept(char[] chunk) {
+        checkNotNull(chunk);
+        accept(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Ends the URL and parses it.
+     *
+     * <p>After the call, the parser is ready to accept the next URL.
+     *
+     * @return the components of the URL
+     * @throws IllegalArgumentException
+     *         if the parser is {@linkplain Mode#STRICT strict} and the URL has
+     *         a bad-formed query parameter
+     * @see UrlParser#parse(String)
+     */
+    public Uri finish() {
+        var spec = end();
+        try {
+            return parser.parseScanned(spec, table);
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * Ends the URL and parses it reporting a failure as a value.
+     *
+     * <p>After the call, the parser is ready to accept the next URL.
+     *
+     * @return the parsed URL or the error, if the parser is {@linkplain Mode#STRICT strict}
+     *         and the URL has a bad-formed query parameter
+     * @see UrlParser#tryParse(String)
+     */
+    public ParsedUrl tryFinish() {
+        var spec = end();
+        try {
+            return parser.tryParseScanned(spec, table);
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * Ends the URL and creates a view of it.
+     *
+     * <p>The components of the view are the ones found while the URL was accepted, so
+     * the URL is not scanned again. After the call, the parser is ready to accept
+     * the next URL.
+     */
+    public UriView finishView() {
+        var spec = end();
+        var result = UriView.of(spec, Arrays.copyOf(table, TABLE_SIZE));
+        reset();
+        return result;
+    }
+
+    /**
+     * Discards the input accepted since the last URL was finished.
+     */
+    public void reset() {
+        scanner.reset();
+        pending.clear();
+        decoder.reset();
+        length = 0;
+    }
+
+    /**
+     * Ends the input and finds the components of the URL.
+     *
+     * @return the accepted URL
+     */
+    private String end() {
+        completePending();
+        scanner.finish(table);
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Consumes the leading ASCII bytes of the chunk, which are copied as they are.
+     */
+    private void acceptAscii(ByteBuffer chunk) {
+        var i = chunk.position();
+        var limit = chunk.limit();
+        for (; i < limit; i++) {
+            var b = chunk.get(i);
+            if (b < 0) {
+                break;
+            }
+            var c = (char) b;
+            chars[length++] = c;
+            scanner.accept(c);
+        }
+        chunk.position(i);
+    }
+
+    /**
+     * Decodes the bytes which are kept after the last byte chunk, if there are any.
+     */
+    private void completePending() {
+        if (pending.position() == 0) {
+            return;
+        }
+        pending.flip();
+        decode(pending, true);
+        var start = length;
+        output.limit(chars.length)
+              .position(length);
+        decoder.flush(output);
+        length = output.position();
+        scanner.accept(chars, start, length);
+        pending.clear();
+        decoder.reset();
+    }
+
+    /**
+     * Decodes the bytes into the characters of the URL.
+     *
+     * <p>The buffer of the characters must have room for a character per byte, which is
+     * enough for any UTF-8 input.
+     */
+    private void decode(ByteBuffer bytes, boolean endOfInput) {
+        var start = length;
+        output.limit(chars.length)
+              .position(length);
+        decoder.decode(bytes, output, endOfInput);
+        length = output.position();
+        scanner.accept(chars, start, length);
+    }
+
+    private void ensureCapacity(int extra) {
+        var required = length + extra;
+        if (required > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(required, chars.length * 2));
+            output = CharBuffer.wrap(chars);
+        }
+    }
+}
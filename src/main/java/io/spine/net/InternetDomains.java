@@ -28,6 +28,8 @@ package io.spine.net;
 
 import io.spine.net.string.NetStringifiers;
 
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -55,13 +57,159 @@ public final class InternetDomains {
 
     /**
      * Verifies if the passed sequence is a valid internet domain name.
+     *
+     * <p>The method accepts the names matching the {@linkplain #pattern() pattern} which are
+     * not longer than 253 characters. The names are verified without running
+     * a regular expression.
+     *
+     * @see ValidationCache
      */
     public static boolean isValid(String name) {
-        var matcher = pattern().matcher(name);
-        var result = matcher.matches();
+        checkNotNull(name);
+        var result = DomainNameValidator.isValid(name);
+        return result;
+    }
+
+    /**
+     * Verifies if the passed sequence is a valid internet domain name which ends with
+     * a {@linkplain TopLevelDomains known} top-level domain or a Punycode one.
+     */
+    public static boolean hasKnownTopLevelDomain(String name) {
+        checkNotNull(name);
+        var result = DomainNameValidator.hasKnownTopLevelDomain(name);
+        return result;
+    }
+
+    /**
+     * Obtains the public suffix of the passed domain, such as {@code com} or {@code co.uk}.
+     *
+     * <p>The suffix is determined by the {@linkplain PublicSuffixList#bundled() bundled}
+     * Public Suffix List.
+     *
+     * @throws IllegalArgumentException
+     *         if the domain name is empty or has an empty label
+     */
+    public static InternetDomain publicSuffix(InternetDomain domain) {
+        checkNotNull(domain);
+        var name = domain.getValue();
+        var start = PublicSuffixList.bundled().publicSuffixStart(name);
+        checkArgument(start >= 0, "Not a valid domain name: `%s`.", name);
+        var result = start == 0 ? domain : subdomain(name, start);
+        return result;
+    }
+
+    /**
+     * Obtains the registrable domain of the passed one, i.e. its public suffix with
+     * one more label.
+     *
+     * <p>For example, the registrable domain of {@code www.spine.io} is {@code spine.io}.
+     * The suffix is determined by the {@linkplain PublicSuffixList#bundled() bundled}
+     * Public Suffix List.
+     *
+     * @return the registrable domain, or empty {@code Optional} if the passed domain is
+     *         a public suffix itself
+     * @throws IllegalArgumentException
+     *         if the domain name is empty or has an empty label
+     */
+    public static Optional<InternetDomain> registrableDomain(InternetDomain domain) {
+        checkNotNull(domain);
+        var name = domain.getValue();
+        var suffixStart = PublicSuffixList.bundled().publicSuffixStart(name);
+        checkArgument(suffixStart >= 0, "Not a valid domain name: `%s`.", name);
+        if (suffixStart == 0) {
+            return Optional.empty();
+        }
+        var start = LabelTrie.labelStart(name, suffixStart - 1);
+        var result = start == 0 ? domain : subdomain(name, start);
+        return Optional.of(result);
+    }
+
+    /**
+     * Converts the domain to the ASCII form of Internationalized Domain Names.
+     *
+     * <p>Labels with non-ASCII characters are mapped to lower case and to the NFKC normal form,
+     * and then encoded as {@code xn--} labels with Punycode. A domain which has only ASCII
+     * characters is returned as it is.
+     *
+     * @throws IllegalArgumentException
+     *         if the domain cannot be converted to a valid ASCII domain name
+     * @see IdnaCache
+     */
+    public static InternetDomain toAscii(InternetDomain domain) {
+        checkNotNull(domain);
+        var name = domain.getValue();
+        var ascii = Idna.toAscii(name);
+        @SuppressWarnings("StringEquality") // The name is returned as it is if it is ASCII.
+        var result = ascii == name ? domain : newDomain(ascii);
+        return result;
+    }
+
+    /**
+     * Converts the domain to the Unicode form of Internationalized Domain Names.
+     *
+     * <p>The {@code xn--} labels are decoded from Punycode. The labels which are not valid
+     * Punycode are left as they are. A domain which has no {@code xn--} labels is returned
+     * as it is.
+     *
+     * @see IdnaCache
+     */
+    public static InternetDomain toUnicode(InternetDomain domain) {
+        checkNotNull(domain);
+        var name = domain.getValue();
+        var unicode = Idna.toUnicode(name);
+        @SuppressWarnings("StringEquality") // The name is returned as it is if not encoded.
+        var result = unicode == name ? domain : newDomain(unicode);
         return result;
     }
 
+    private static InternetDomain subdomain(String name, int start) {
+        return newDomain(name.substring(start));
+    }
+
+    /**
+     * Creates a domain with the given name, without validating it.
+     */
+    static InternetDomain newDomain(String name) {
+        return InternetDomain.newBuilder()
+                .setValue(name)
+                .build();
+    }
+
+    /**
+     * Creates domains from the values which are known to be valid, without validating them.
+     *
+     * <p>Suits loading the values which were validated before they were stored. The values
+     * are converted lazily, as the returned iterator advances.
+     *
+     * @see #fromTrusted(Iterator, int)
+     */
+    public static Iterator<InternetDomain> fromTrusted(Iterator<String> values) {
+        return fromTrusted(values, 0);
+    }
+
+    /**
+     * Creates domains from the values which are known to be valid, validating only
+     * a sample of them.
+     *
+     * <p>The first value and then every {@code sampleInterval}-th one are validated, so that
+     * corrupt data is caught at a fraction of the cost of validating all the values.
+     * The values are converted lazily, as the returned iterator advances.
+     *
+     * @param values
+     *         the values to convert
+     * @param sampleInterval
+     *         the number of the values per a validated one, or {@code 0} to validate none
+     * @throws IllegalArgumentException
+     *         if the sample interval is negative; the {@code next()} method of
+     *         the returned iterator throws it if a validated value is not valid
+     */
+    public static Iterator<InternetDomain> fromTrusted(Iterator<String> values,
+                                                       int sampleInterval) {
+        checkNotNull(values);
+        return new TrustedValues<>(values, InternetDomains::isValid, InternetDomains::newDomain,
+                                   sampleInterval, "domain name");
+    }
+
     /**
      * Obtains string representation of the passed internet domain.
      */
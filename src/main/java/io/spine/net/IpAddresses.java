@@ -0,0 +1,442 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Utility class for working with {@link IpAddress}es.
+ *
+ * <p>Addresses are parsed by hand-written scanners into primitive values: an IPv4 address
+ * into an {@code int}, and an IPv6 address into two {@code long}s. Parsing does not allocate
+ * memory, unless an {@code IpAddress} message is requested.
+ *
+ * <p>IPv4 addresses are accepted in the dotted-decimal form of four octets. Octets with
+ * leading zeros are rejected, as they are interpreted as octal numbers by some software.
+ *
+ * <p>IPv6 addresses are accepted in the forms of RFC 4291: eight groups of up to four hex
+ * digits, optionally with one {@code ::} standing for one or more zero groups, and optionally
+ * with an IPv4 address as the last 32 bits. Zone indices and brackets are not accepted.
+ *
+ * <p>IPv6 addresses are printed in the canonical form of RFC 5952.
+ */
+public final class IpAddresses {
+
+    /** The number of bits in an IPv4 address. */
+    static final int IPV4_BITS = 32;
+
+    /** The number of bits in an IPv6 address. */
+    static final int IPV6_BITS = 128;
+
+    private static final int IPV4_OCTETS = 4;
+    private static final int IPV6_GROUPS = 8;
+    private static final int GROUP_BITS = 16;
+    private static final int MAX_GROUP_DIGITS = 4;
+    private static final int MAX_OCTET = 255;
+    private static final long INVALID = -1L;
+
+    /** The high 32 bits of the low half of an IPv4-mapped IPv6 address. */
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+
+    private static final char DOT = '.';
+    private static final char COLON = ':';
+
+    /** Prevent instantiation of this utility class. */
+    private IpAddresses() {
+    }
+
+    /**
+     * Tells if the passed sequence is a valid IPv4 or IPv6 address.
+     */
+    public static boolean isValid(CharSequence value) {
+        var result = isIpv4(value) || isIpv6(value);
+        return result;
+    }
+
+    /**
+     * Tells if the passed sequence is a valid IPv4 address.
+     */
+    public static boolean isIpv4(CharSequence value) {
+        checkNotNull(value);
+        var result = parseIpv4(value, 0, value.length()) != INVALID;
+        return result;
+    }
+
+    /**
+     * Tells if the passed sequence is a valid IPv6 address.
+     */
+    public static boolean isIpv6(CharSequence value) {
+        checkNotNull(value);
+        var result = parseIpv6(value, 0, value.length(), null);
+        return result;
+    }
+
+    /**
+     * Parses the IPv4 address.
+     *
+     * @return the address as a 32-bit number, the first octet being the most significant
+     * @throws IllegalArgumentException
+     *         if the passed sequence is not a valid IPv4 address
+     */
+    public static int parseIpv4(CharSequence value) {
+        checkNotNull(value);
+        var result = parseIpv4(value, 0, value.length());
+        if (result == INVALID) {
+            throw newIllegalArgumentException("Not a valid IPv4 address: `%s`.", value);
+        }
+        return (int) result;
+    }
+
+    /**
+     * Parses the IPv6 address into the passed array.
+     *
+     * @param value
+     *         the address to parse
+     * @param address
+     *         the array of at least two elements, which receives the most significant 64 bits
+     *         of the address at index 0, and the least significant 64 bits at index 1
+     * @return {@code true} if the address is valid, {@code false} otherwise, in which case
+     *         the array is not modified
+     */
+    public static boolean parseIpv6(CharSequence value, long[] address) {
+        checkNotNull(value);
+        checkNotNull(address);
+        checkArgument(address.length >= 2, "The array must have at least two elements.");
+        var result = parseIpv6(value, 0, value.length(), address);
+        return result;
+    }
+
+    /**
+     * Parses the IPv4 or IPv6 address.
+     *
+     * @throws IllegalArgumentException
+     *         if the passed value is not a valid IP address
+     */
+    public static IpAddress valueOf(String value) {
+        checkNotNull(value);
+        var ipv4 = parseIpv4(value, 0, value.length());
+        if (ipv4 != INVALID) {
+            return ipv4((int) ipv4);
+        }
+        var ipv6 = new long[2];
+        if (parseIpv6(value, 0, value.length(), ipv6)) {
+            return ipv6(ipv6[0], ipv6[1]);
+        }
+        throw newIllegalArgumentException("Not a valid IP address: `%s`.", value);
+    }
+
+    /**
+     * Creates an IPv4 address.
+     *
+     * @param address
+     *         the address as a 32-bit number, the first octet being the most significant
+     */
+    public static IpAddress ipv4(int address) {
+        return IpAddress.newBuilder()
+                .setIpv4(address)
+                .build();
+    }
+
+    /**
+     * Creates an IPv6 address.
+     *
+     * @param high
+     *         the most significant 64 bits of the address
+     * @param low
+     *         the least significant 64 bits of the address
+     */
+    public static IpAddress ipv6(long high, long low) {
+        var ipv6 = Ipv6Address.newBuilder()
+                .setHigh(high)
+                .setLow(low)
+                .build();
+        return IpAddress.newBuilder()
+                .setIpv6(ipv6)
+                .build();
+    }
+
+    /**
+     * Obtains the string form of the passed address.
+     *
+     * @throws IllegalArgumentException
+     *         if the address has neither IPv4 nor IPv6 value
+     */
+    public static String toString(IpAddress address) {
+        checkNotNull(address);
+        var result = new StringBuilder(39);
+        switch (address.getVersionCase()) {
+            case IPV4:
+                appendIpv4(result, address.getIpv4());
+                break;
+            case IPV6:
+                var ipv6 = address.getIpv6();
+                appendIpv6(result, ipv6.getHigh(), ipv6.getLow());
+                break;
+            default:
+                throw newIllegalArgumentException("The IP address `%s` is not set.", address);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Appends the dotted-decimal form of the IPv4 address.
+     */
+    public static void appendIpv4(StringBuilder target, int address) {
+        checkNotNull(target);
+        for (var shift = IPV4_BITS - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            target.append((address >>> shift) & MAX_OCTET);
+            if (shift > 0) {
+                target.append(DOT);
+            }
+        }
+    }
+
+    /**
+     * Appends the canonical form of the IPv6 address, as defined by RFC 5952.
+     *
+     * <p>The longest run of two or more zero groups, the first one of equal runs, is replaced
+     * with {@code ::}. IPv4-mapped addresses are printed with the IPv4 address in
+     * the dotted-decimal form, e.g. {@code ::ffff:192.0.2.1}.
+     */
+    public static void appendIpv6(StringBuilder target, long high, long low) {
+        checkNotNull(target);
+        if (high == 0 && (low >>> IPV4_BITS) == IPV4_MAPPED_PREFIX) {
+            target.append("::ffff:");
+            appendIpv4(target, (int) low);
+            return;
+        }
+        var runStart = -1;
+        var runLength = 0;
+        var currentStart = -1;
+        for (var i = 0; i < IPV6_GROUPS; i++) {
+            if (group(high, low, i) == 0) {
+                if (currentStart < 0) {
+                    currentStart = i;
+                }
+                var currentLength = i - currentStart + 1;
+                if (currentLength > runLength) {
+                    runStart = currentStart;
+                    runLength = currentLength;
+                }
+            } else {
+                currentStart = -1;
+            }
+        }
+        if (runLength < 2) {
+            runStart = -1;
+        }
+        for (var i = 0; i < IPV6_GROUPS; i++) {
+            if (i == runStart) {
+                target.append(COLON).append(COLON);
+                i += runLength - 1;
+                continue;
+            }
+            if (i > 0 && i != runStart + runLength) {
+                target.append(COLON);
+            }
+            target.append(Integer.toHexString(group(high, low, i)));
+        }
+    }
+
+    private static int group(long high, long low, int index) {
+        var half = index < IPV6_GROUPS / 2 ? high : low;
+        var shift = (IPV6_GROUPS / 2 - 1 - index % (IPV6_GROUPS / 2)) * GROUP_BITS;
+        return (int) (half >>> shift) & 0xFFFF;
+    }
+
+    /**
+     * Parses the IPv4 address in the given region of the sequence.
+     *
+     * @return the address as an unsigned 32-bit number, or {@code -1} if the region is not
+     *         a valid IPv4 address
+     */
+    static long parseIpv4(CharSequence value, int start, int end) {
+        var result = 0L;
+        var octets = 0;
+        var i = start;
+        while (octets < IPV4_OCTETS) {
+            var octetStart = i;
+            var octet = 0;
+            while (i < end && i - octetStart < 3 && isDigit(value.charAt(i))) {
+                octet = octet * 10 + (value.charAt(i) - '0');
+                i++;
+            }
+            var digits = i - octetStart;
+            if (digits == 0
+                    || octet > MAX_OCTET
+                    || (digits > 1 && value.charAt(octetStart) == '0')) {
+                return INVALID;
+            }
+            result = (result << Byte.SIZE) | octet;
+            octets++;
+            if (octets < IPV4_OCTETS) {
+                if (i >= end || value.charAt(i) != DOT) {
+                    return INVALID;
+                }
+                i++;
+            }
+        }
+        return i == end ? result : INVALID;
+    }
+
+    /**
+     * Parses the IPv6 address in the given region of the sequence.
+     *
+     * <p>The groups before {@code ::} and the groups after it are accumulated into two
+     * 128-bit numbers, each held by a pair of {@code long}s. When the input ends, the groups
+     * before {@code ::} are shifted into place, and the two numbers are combined.
+     *
+     * @param address
+     *         the array which receives the address, or {@code null} if only
+     *         the validity is of interest
+     * @return {@code true} if the region is a valid IPv6 address
+     */
+    @SuppressWarnings("MethodWithMultipleLoops" /* Keeps the state in local variables. */)
+    static boolean parseIpv6(CharSequence value, int start, int end, long @Nullable [] address) {
+        if (end - start < 2) {
+            return false;
+        }
+        var headHigh = 0L;
+        var headLow = 0L;
+        var headGroups = 0;
+        var tailHigh = 0L;
+        var tailLow = 0L;
+        var tailGroups = 0;
+        var compressed = false;
+        var i = start;
+        if (value.charAt(i) == COLON) {
+            if (value.charAt(i + 1) != COLON) {
+                return false;
+            }
+            compressed = true;
+            i += 2;
+        }
+        while (i < end) {
+            var groupStart = i;
+            var group = 0;
+            while (i < end) {
+                var digit = hexDigit(value.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                if (i - groupStart == MAX_GROUP_DIGITS) {
+                    return false;
+                }
+                group = (group << 4) | digit;
+                i++;
+            }
+            if (i == groupStart) {
+                return false;
+            }
+            var bits = GROUP_BITS;
+            long groupValue = group;
+            if (i < end && value.charAt(i) == DOT) {
+                groupValue = parseIpv4(value, groupStart, end);
+                if (groupValue == INVALID) {
+                    return false;
+                }
+                bits = IPV4_BITS;
+                i = end;
+            }
+            if (compressed) {
+                tailHigh = (tailHigh << bits) | (tailLow >>> (Long.SIZE - bits));
+                tailLow = (tailLow << bits) | groupValue;
+                tailGroups += bits / GROUP_BITS;
+            } else {
+                headHigh = (headHigh << bits) | (headLow >>> (Long.SIZE - bits));
+                headLow = (headLow << bits) | groupValue;
+                headGroups += bits / GROUP_BITS;
+            }
+            if (headGroups + tailGroups > IPV6_GROUPS) {
+                return false;
+            }
+            if (i == end) {
+                break;
+            }
+            if (value.charAt(i) != COLON) {
+                return false;
+            }
+            i++;
+            if (i == end) {
+                return false;
+            }
+            if (value.charAt(i) == COLON) {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                i++;
+            }
+        }
+        var groups = headGroups + tailGroups;
+        if (compressed ? groups == IPV6_GROUPS : groups != IPV6_GROUPS) {
+            return false;
+        }
+        if (address != null) {
+            var shift = GROUP_BITS * (IPV6_GROUPS - headGroups);
+            long high;
+            long low;
+            if (shift == 0) {
+                high = headHigh;
+                low = headLow;
+            } else if (shift == IPV6_BITS) {
+                high = 0;
+                low = 0;
+            } else if (shift >= Long.SIZE) {
+                high = headLow << (shift - Long.SIZE);
+                low = 0;
+            } else {
+                high = (headHigh << shift) | (headLow >>> (Long.SIZE - shift));
+                low = headLow << shift;
+            }
+            address[0] = high | tailHigh;
+            address[1] = low | tailLow;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable prefix tree of domain names, walked from the top-level label down.
+ *
+ * <p>Each node of the tree stands for a domain name and carries flags whose meaning is
+ * defined by the owner of the tree. A child of a node stands for the domain with one more
+ * label on the left.
+ *
+ * <p>The tree is packed into a few arrays:
+ * <ul>
+ *     <li>nodes are numbered in breadth-first order, so the children of a node occupy
+ *         a contiguous range of numbers, sorted by their labels;
+ *     <li>each distinct label is stored once, in a shared pool of characters.
+ * </ul>
+ *
+ * <p>A child is found by a binary search which compares the label to a region of the passed
+ * sequence. Lookups allocate nothing. Labels are compared ignoring the case of ASCII letters.
+ */
+final class LabelTrie {
+
+    /** The number of the root node, which stands for the empty domain name. */
+    static final int ROOT = 0;
+
+    /** The value returned instead of the number of a node which does not exist. */
+    static final int ABSENT = -1;
+
+    private static final char DOT = '.';
+
+    /** The characters of all the distinct labels. */
+    private final char[] pool;
+
+    /** The label {@code i} occupies the pool from {@code labelBounds[i]} to the next bound. */
+    private final int[] labelBounds;
+
+    /** The label of each node. */
+    private final int[] labels;
+
+    /** The children of the node {@code i} are numbered from {@code firstChild[i]}. */
+    private final int[] firstChild;
+
+    /** The flags of each node. */
+    private final byte[] flags;
+
+    private LabelTrie(char[] pool, int[] labelBounds, int[] labels, int[] firstChild,
+                      byte[] flags) {
+        this.pool = pool;
+        this.labelBounds = labelBounds;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.flags = flags;
+    }
+
+    /** Creates a new builder of a tree. */
+    static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Finds the child of the node which has the given label.
+     *
+     * @param node
+     *         the number of the parent node
+     * @param sequence
+     *         the sequence holding the label
+     * @param start
+     *         the index of the first character of the label
+     * @param end
+     *         the index after the last character of the label
+     * @return the number of the child or {@link #ABSENT}
+     */
+    int child(int node, CharSequence sequence, int start, int end) {
+        var low = firstChild[node];
+        var high = firstChild[node + 1] - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var comparison = compare(labels[middle], sequence, start, end);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return ABSENT;
+    }
+
+    /** Obtains the flags of the node. */
+    int flags(int node) {
+        return flags[node];
+    }
+
+    /** Obtains the number of nodes which have the given flag. */
+    int count(int flag) {
+        var result = 0;
+        for (var nodeFlags : flags) {
+            if ((nodeFlags & flag) != 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /** Obtains the number of nodes, including the root. */
+    int size() {
+        return flags.length;
+    }
+
+    /** Obtains the number of distinct labels. */
+    int labelCount() {
+        return labelBounds.length - 1;
+    }
+
+    /**
+     * Compares the label with the region of the sequence.
+     */
+    private int compare(int label, CharSequence sequence, int start, int end) {
+        var from = labelBounds[label];
+        var to = labelBounds[label + 1];
+        var length = Math.min(to - from, end - start);
+        for (var i = 0; i < length; i++) {
+            var difference = pool[from + i] - toLowerCase(sequence.charAt(start + i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return (to - from) - (end - start);
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Finds the start of the rightmost label which ends at the given index.
+     */
+    static int labelStart(CharSequence domain, int end) {
+        var i = end;
+        while (i > 0 && domain.charAt(i - 1) != DOT) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * A builder of a {@link LabelTrie}.
+     *
+     * <p>The builder collects the names as paths of labels from the top-level one, sorts
+     * the paths, and then creates the nodes level by level. As the paths are sorted, the nodes
+     * of a level come out already grouped by parent and ordered by label.
+     */
+    static final class Builder {
+
+        /**
+         * Separates labels in a path.
+         *
+         * <p>The character sorts before any character of a label, so that sorting the paths
+         * orders sibling labels the same way as {@link LabelTrie#child} expects.
+         */
+        private static final char SEPARATOR = '\0';
+
+        private final List<Entry> paths = new ArrayList<>();
+
+        /** The number of labels in all the added names. */
+        private int labelTotal;
+
+        /** Prevents instantiation from outside. */
+        private Builder() {
+        }
+
+        /**
+         * Adds the domain name to the tree, setting the passed flags to its node.
+         *
+         * <p>If the domain is already added, the flags are combined with its existing flags.
+         *
+         * @throws IllegalArgumentException
+         *         if the name has an empty label
+         */
+        @CanIgnoreReturnValue
+        Builder add(CharSequence domain, int flags) {
+            checkNotNull(domain);
+            var path = new StringBuilder(domain.length());
+            var end = domain.length();
+            while (true) {
+                var start = labelStart(domain, end);
+                checkArgument(start < end, "The domain name `%s` has an empty label.", domain);
+                if (path.length() > 0) {
+                    path.append(SEPARATOR);
+                }
+                for (var i = start; i < end; i++) {
+                    path.append(toLowerCase(domain.charAt(i)));
+                }
+                labelTotal++;
+                if (start == 0) {
+                    break;
+                }
+                end = start - 1;
+            }
+            paths.add(new Entry(path.toString(), (byte) flags));
+            return this;
+        }
+
+        /**
+         * Creates a new tree with the added names.
+         */
+        LabelTrie build() {
+            var sorted = paths.toArray(new Entry[0]);
+            Arrays.sort(sorted);
+            var maxSize = labelTotal + 1;
+            var labels = new int[maxSize];
+            var flags = new byte[maxSize];
+            var firstChild = new int[maxSize + 1];
+            var labelIds = new HashMap<String, Integer>();
+            var labelBounds = new IntArray();
+            var pool = new StringBuilder();
+
+            var count = sorted.length;
+            var active = new int[count];
+            var consumed = new int[count];
+            var parents = new int[count];
+            for (var i = 0; i < count; i++) {
+                active[i] = i;
+                consumed[i] = -1;
+            }
+            labels[ROOT] = ABSENT;
+            var size = 1;
+            var levelStart = ROOT;
+            var activeCount = count;
+            while (activeCount > 0) {
+                var nextLevelStart = size;
+                var nextParent = levelStart;
+                var remaining = 0;
+                var previous = -1;
+                var previousParent = ABSENT;
+                for (var a = 0; a < activeCount; a++) {
+                    var k = active[a];
+                    var path = sorted[k].labels;
+                    var from = consumed[k] + 1;
+                    var to = path.indexOf(SEPARATOR, from);
+                    if (to < 0) {
+                        to = path.length();
+                    }
+                    int node;
+                    if (previous >= 0
+                            && previousParent == parents[k]
+                            && sameLabel(sorted[previous].labels, consumed[previous], path,
+                                         from, to)) {
+                        node = size - 1;
+                    } else {
+                        node = size++;
+                        var label = path.substring(from, to);
+                        var id = labelIds.get(label);
+                        if (id == null) {
+                            id = labelBounds.size();
+                            labelIds.put(label, id);
+                            labelBounds.add(pool.length());
+                            pool.append(label);
+                        }
+                        labels[node] = id;
+                        while (nextParent <= parents[k]) {
+                            firstChild[nextParent++] = node;
+                        }
+                    }
+                    previous = k;
+                    previousParent = parents[k];
+                    parents[k] = node;
+                    consumed[k] = to;
+                    if (to == path.length()) {
+                        flags[node] |= sorted[k].flags;
+                    } else {
+                        active[remaining++] = k;
+                    }
+                }
+                while (nextParent < nextLevelStart) {
+                    firstChild[nextParent++] = size;
+                }
+                levelStart = nextLevelStart;
+                activeCount = remaining;
+            }
+            for (var node = levelStart; node <= size; node++) {
+                firstChild[node] = size;
+            }
+            labelBounds.add(pool.length());
+            var chars = new char[pool.length()];
+            pool.getChars(0, pool.length(), chars, 0);
+            return new LabelTrie(chars,
+                                 labelBounds.toArray(),
+                                 Arrays.copyOf(labels, size),
+                                 Arrays.copyOf(firstChild, size + 1),
+                                 Arrays.copyOf(flags, size));
+        }
+
+        /**
+         * Tells if the label of the previous path, which ends at the given index,
+         * equals the given label of the current path.
+         *
+         * <p>The previous path shares the parent labels with the current one,
+         * so its label starts at the same index.
+         */
+        private static boolean sameLabel(String previous, int previousEnd,
+                                         String path, int from, int to) {
+            return previousEnd == to && previous.regionMatches(from, path, from, to - from);
+        }
+    }
+
+    /**
+     * A domain name added to a {@link Builder}.
+     */
+    private static final class Entry implements Comparable<Entry> {
+
+        /** The labels of the name from the top-level one, joined by the separator. */
+        private final String labels;
+        private final byte flags;
+
+        private Entry(String labels, byte flags) {
+            this.labels = labels;
+            this.flags = flags;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return labels.compareTo(other.labels);
+        }
+    }
+
+    /**
+     * A growable array of {@code int} values.
+     */
+    private static final class IntArray {
+
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
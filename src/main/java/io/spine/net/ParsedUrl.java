@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.base.MoreObjects;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * The outcome of parsing a URL into a {@link Uri}.
+ *
+ * <p>Holds either the parsed {@code Uri} or the position of the malformed part of the URL
+ * which prevented the parsing. The description of the error is composed only
+ * when {@linkplain #error() requested}.
+ */
+public final class ParsedUrl {
+
+    private final String spec;
+    private final @Nullable Uri uri;
+    private final int errorStart;
+    private final int errorEnd;
+
+    private ParsedUrl(String spec, @Nullable Uri uri, int errorStart, int errorEnd) {
+        this.spec = spec;
+        this.uri = uri;
+        this.errorStart = errorStart;
+        this.errorEnd = errorEnd;
+    }
+
+    /**
+     * Creates a result of successful parsing.
+     */
+    static ParsedUrl success(String spec, Uri uri) {
+        return new ParsedUrl(spec, uri, -1, -1);
+    }
+
+    /**
+     * Creates a result of failed parsing.
+     *
+     * @param spec
+     *         the parsed URL
+     * @param errorStart
+     *         the index of the first character of the malformed query parameter
+     * @param errorEnd
+     *         the index after the last character of the malformed query parameter
+     */
+    static ParsedUrl failure(String spec, int errorStart, int errorEnd) {
+        return new ParsedUrl(spec, null, errorStart, errorEnd);
+    }
+
+    /** Obtains the parsed URL spec. */
+    public String spec() {
+        return spec;
+    }
+
+    /** Tells if the URL was parsed successfully. */
+    public boolean succeeded() {
+        return uri != null;
+    }
+
+    /**
+     * Obtains the parsed URL.
+     *
+     * @throws IllegalStateException
+     *         if the URL could not be parsed
+     */
+    public Uri uri() {
+        if (uri == null) {
+            throw newIllegalStateException("The URL `%s` was not parsed: %s.",
+                                           spec, errorMessage());
+        }
+        return uri;
+    }
+
+    /**
+     * Obtains the description of the parsing error.
+     *
+     * @return the error description or empty {@code Optional} if the URL was parsed
+     */
+    public Optional<String> error() {
+        if (succeeded()) {
+            return Optional.empty();
+        }
+        return Optional.of(errorMessage());
+    }
+
+    private String errorMessage() {
+        return UrlQueryParameters.errorMessage(spec, errorStart, errorEnd);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ParsedUrl)) {
+            return false;
+        }
+        var other = (ParsedUrl) o;
+        return spec.equals(other.spec)
+                && Objects.equals(uri, other.uri)
+                && errorStart == other.errorStart
+                && errorEnd == other.errorEnd;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(spec, uri, errorStart, errorEnd);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("spec", spec)
+                          .add("error", error().orElse(null))
+                          .toString();
+    }
+}
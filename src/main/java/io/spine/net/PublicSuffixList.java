@@ -0,0 +1,274 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.io.Resources;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.net.LabelTrie.ABSENT;
+import static io.spine.net.LabelTrie.ROOT;
+import static io.spine.net.LabelTrie.labelStart;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The rules of the <a href="https://publicsuffix.org/">Public Suffix List</a>.
+ *
+ * <p>A public suffix is a domain under which anyone can register names, such as {@code com}
+ * or {@code co.uk}. The registrable domain of a host is its public suffix with one more label,
+ * e.g. {@code spine.io} for {@code www.spine.io}.
+ *
+ * <p>The rules are kept in a {@linkplain LabelTrie prefix tree of labels}. Normal, wildcard,
+ * and exception rules are supported, as described by
+ * <a href="https://github.com/publicsuffix/list/wiki/Format">the format</a>. Both the ICANN and
+ * the private sections of the list are used. Names are matched label by label without
+ * conversion between Unicode and Punycode forms.
+ *
+ * <p>The lookups which return offsets allocate nothing. The lookups which return parts of
+ * a host return views over the passed sequence.
+ *
+ * <p>A copy of the list is bundled with this library as
+ * the {@code io/spine/net/public_suffix_list.dat} resource.
+ */
+public final class PublicSuffixList {
+
+    private static final String BUNDLED_LIST = "public_suffix_list.dat";
+    private static final String COMMENT_START = "//";
+    private static final char EXCEPTION_START = '!';
+    private static final String WILDCARD_START = "*.";
+    private static final char DOT = '.';
+
+    /** The flag of a node which ends a normal rule. */
+    private static final int RULE = 1;
+
+    /** The flag of a node for which a wildcard rule exists. */
+    private static final int WILDCARD = 2;
+
+    /** The flag of a node which ends an exception rule. */
+    private static final int EXCEPTION = 4;
+
+    private final LabelTrie rules;
+
+    private PublicSuffixList(LabelTrie rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Obtains the list bundled with this library.
+     */
+    public static PublicSuffixList bundled() {
+        return BundledList.INSTANCE;
+    }
+
+    /**
+     * Loads the list from the given UTF-8 file in the Public Suffix List format.
+     *
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     * @throws IllegalArgumentException
+     *         if the file contains a malformed rule
+     */
+    public static PublicSuffixList load(Path file) {
+        checkNotNull(file);
+        try {
+            var lines = Files.readAllLines(file, UTF_8);
+            return parse(lines);
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e, "Unable to load the public suffix list from `%s`.", file);
+        }
+    }
+
+    /**
+     * Creates the list of the rules given in the passed lines.
+     *
+     * <p>Empty lines and lines starting with {@code //} are ignored. A rule ends at
+     * the first whitespace character of its line.
+     *
+     * @throws IllegalArgumentException
+     *         if one of the rules is malformed
+     */
+    public static PublicSuffixList parse(Iterable<String> lines) {
+        checkNotNull(lines);
+        var builder = LabelTrie.newBuilder();
+        for (var line : lines) {
+            var rule = firstWord(line);
+            if (rule.isEmpty() || rule.startsWith(COMMENT_START)) {
+                continue;
+            }
+            if (rule.charAt(0) == EXCEPTION_START) {
+                checkArgument(rule.indexOf(DOT) > 0,
+                              "The exception rule `%s` must have more than one label.", rule);
+                builder.add(rule.substring(1), EXCEPTION);
+            } else if (rule.startsWith(WILDCARD_START)) {
+                builder.add(rule.substring(WILDCARD_START.length()), WILDCARD);
+            } else {
+                checkArgument(rule.indexOf('*') < 0,
+                              "Unsupported wildcard in the public suffix rule `%s`.", rule);
+                builder.add(rule, RULE);
+            }
+        }
+        return new PublicSuffixList(builder.build());
+    }
+
+    private static String firstWord(String line) {
+        var stripped = line.strip();
+        var end = 0;
+        while (end < stripped.length() && !Character.isWhitespace(stripped.charAt(end))) {
+            end++;
+        }
+        return stripped.substring(0, end);
+    }
+
+    /**
+     * Finds where the public suffix of the host starts.
+     *
+     * <p>If no rule matches the host, its top-level label is the public suffix.
+     *
+     * @param host
+     *         the host name, without a trailing dot
+     * @return the index of the first character of the public suffix,
+     *         or {@code -1} if the host is empty or has an empty label
+     */
+    public int publicSuffixStart(CharSequence host) {
+        checkNotNull(host);
+        if (hasEmptyLabel(host)) {
+            return -1;
+        }
+        var end = host.length();
+        var start = labelStart(host, end);
+        var result = start;
+        var node = ROOT;
+        while (true) {
+            var child = rules.child(node, host, start, end);
+            if ((rules.flags(node) & WILDCARD) != 0) {
+                result = start;
+            }
+            if (child == ABSENT) {
+                return result;
+            }
+            var flags = rules.flags(child);
+            if ((flags & EXCEPTION) != 0) {
+                return end + 1;
+            }
+            if ((flags & RULE) != 0) {
+                result = start;
+            }
+            if (start == 0) {
+                return result;
+            }
+            node = child;
+            end = start - 1;
+            start = labelStart(host, end);
+        }
+    }
+
+    private static boolean hasEmptyLabel(CharSequence host) {
+        var length = host.length();
+        if (length == 0 || host.charAt(0) == DOT || host.charAt(length - 1) == DOT) {
+            return true;
+        }
+        for (var i = 1; i < length; i++) {
+            if (host.charAt(i) == DOT && host.charAt(i - 1) == DOT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds where the registrable domain of the host starts.
+     *
+     * @param host
+     *         the host name, without a trailing dot
+     * @return the index of the first character of the registrable domain, or {@code -1} if
+     *         the host is a public suffix itself, is empty, or has an empty label
+     */
+    public int registrableDomainStart(CharSequence host) {
+        var suffixStart = publicSuffixStart(host);
+        if (suffixStart <= 0) {
+            return -1;
+        }
+        return labelStart(host, suffixStart - 1);
+    }
+
+    /**
+     * Obtains the public suffix of the host.
+     *
+     * @return a view of the suffix of the host, or {@code null} if the host is empty or
+     *         has an empty label
+     */
+    public @Nullable CharSequence publicSuffix(CharSequence host) {
+        var start = publicSuffixStart(host);
+        return start < 0 ? null : CharSlice.of(host, start, host.length());
+    }
+
+    /**
+     * Obtains the registrable domain of the host.
+     *
+     * @return a view of the suffix of the host, or {@code null} if the host is a public
+     *         suffix itself, is empty, or has an empty label
+     */
+    public @Nullable CharSequence registrableDomain(CharSequence host) {
+        var start = registrableDomainStart(host);
+        return start < 0 ? null : CharSlice.of(host, start, host.length());
+    }
+
+    /**
+     * Tells if the host is a public suffix.
+     */
+    public boolean isPublicSuffix(CharSequence host) {
+        var result = publicSuffixStart(host) == 0;
+        return result;
+    }
+
+    /**
+     * Holds the bundled list, which is loaded on first use.
+     */
+    private static final class BundledList {
+
+        private static final PublicSuffixList INSTANCE = loadBundled();
+
+        private static PublicSuffixList loadBundled() {
+            var resource = Resources.getResource(PublicSuffixList.class, BUNDLED_LIST);
+            try {
+                var lines = Resources.asCharSource(resource, UTF_8).readLines();
+                return parse(lines);
+            } catch (IOException e) {
+                throw newIllegalStateException(
+                        e, "Unable to load the bundled public suffix list from `%s`.",
+                        resource);
+            }
+        }
+    }
+}
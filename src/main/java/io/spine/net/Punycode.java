@@ -0,0 +1,279 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+/**
+ * The Punycode encoding of Unicode labels as ASCII ones, as defined by RFC 3492.
+ *
+ * <p>The codec writes into {@code char[]} buffers provided by the caller and allocates
+ * nothing. Code points outside the Basic Multilingual Plane are read and written as
+ * surrogate pairs.
+ *
+ * <p>The codec does not add or remove the {@code xn--} prefix of the labels, and does not
+ * map the code points in any way. This is what {@link Idna} does.
+ */
+final class Punycode {
+
+    /** The value returned when the input cannot be encoded or decoded. */
+    static final int FAILED = -1;
+
+    private static final int BASE = 36;
+    private static final int T_MIN = 1;
+    private static final int T_MAX = 26;
+    private static final int SKEW = 38;
+    private static final int DAMP = 700;
+    private static final int INITIAL_BIAS = 72;
+    private static final int INITIAL_N = 0x80;
+    private static final char DELIMITER = '-';
+
+    /** Prevent instantiation of this utility class. */
+    private Punycode() {
+    }
+
+    /**
+     * Encodes the given region of the sequence.
+     *
+     * @param source
+     *         the sequence holding the label to encode
+     * @param start
+     *         the index of the first character of the label
+     * @param end
+     *         the index past the last character of the label
+     * @param target
+     *         the buffer to write the encoded label to
+     * @param offset
+     *         the index in the buffer to start writing at
+     * @return the index in the buffer past the encoded label, or {@link #FAILED} if
+     *         the encoded label does not fit into the buffer, or if the label has unpaired
+     *         surrogates
+     */
+    static int encode(CharSequence source, int start, int end, char[] target, int offset) {
+        var out = offset;
+        var length = 0;
+        for (var i = start; i < end; i++) {
+            var c = source.charAt(i);
+            if (c < INITIAL_N) {
+                if (out == target.length) {
+                    return FAILED;
+                }
+                target[out++] = c;
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || i + 1 == end
+                        || !Character.isLowSurrogate(source.charAt(i + 1))) {
+                    return FAILED;
+                }
+                i++;
+            }
+            length++;
+        }
+        var basic = out - offset;
+        if (basic > 0) {
+            if (out == target.length) {
+                return FAILED;
+            }
+            target[out++] = DELIMITER;
+        }
+        var n = INITIAL_N;
+        var delta = 0L;
+        var bias = INITIAL_BIAS;
+        var handled = basic;
+        while (handled < length) {
+            var next = Integer.MAX_VALUE;
+            for (var i = start; i < end; ) {
+                var c = Character.codePointAt(source, i);
+                if (c >= n && c < next) {
+                    next = c;
+                }
+                i += Character.charCount(c);
+            }
+            delta += (long) (next - n) * (handled + 1);
+            n = next;
+            for (var i = start; i < end; ) {
+                var c = Character.codePointAt(source, i);
+                i += Character.charCount(c);
+                if (c < n) {
+                    delta++;
+                } else if (c == n) {
+                    var q = delta;
+                    for (var k = BASE; ; k += BASE) {
+                        var t = threshold(k, bias);
+                        if (q < t) {
+                            break;
+                        }
+                        if (out == target.length) {
+                            return FAILED;
+                        }
+                        target[out++] = digit(t + (int) ((q - t) % (BASE - t)));
+                        q = (q - t) / (BASE - t);
+                    }
+                    if (out == target.length) {
+                        return FAILED;
+                    }
+                    target[out++] = digit((int) q);
+                    bias = adapt(delta, handled + 1, handled == basic);
+                    delta = 0;
+                    handled++;
+                }
+            }
+            delta++;
+            n++;
+        }
+        return out;
+    }
+
+    /**
+     * Decodes the given region of the sequence.
+     *
+     * @param source
+     *         the sequence holding the label to decode, without the {@code xn--} prefix
+     * @param start
+     *         the index of the first character of the label
+     * @param end
+     *         the index past the last character of the label
+     * @param target
+     *         the buffer to write the decoded label to
+     * @param offset
+     *         the index in the buffer to start writing at
+     * @return the index in the buffer past the decoded label, or {@link #FAILED} if the label
+     *         is not valid Punycode or if the decoded label does not fit into the buffer
+     */
+    static int decode(CharSequence source, int start, int end, char[] target, int offset) {
+        var delimiter = end;
+        while (delimiter > start && source.charAt(delimiter - 1) != DELIMITER) {
+            delimiter--;
+        }
+        var basicEnd = delimiter > start ? delimiter - 1 : start;
+        if (basicEnd - start > target.length - offset) {
+            return FAILED;
+        }
+        var out = offset;
+        for (var i = start; i < basicEnd; i++) {
+            var c = source.charAt(i);
+            if (c >= INITIAL_N) {
+                return FAILED;
+            }
+            target[out++] = c;
+        }
+        var length = basicEnd - start;
+        var n = INITIAL_N;
+        var index = 0L;
+        var bias = INITIAL_BIAS;
+        for (var in = basicEnd > start ? basicEnd + 1 : start; in < end; ) {
+            var previous = index;
+            var weight = 1L;
+            for (var k = BASE; ; k += BASE) {
+                if (in == end) {
+                    return FAILED;
+                }
+                var digit = digitValue(source.charAt(in++));
+                if (digit < 0) {
+                    return FAILED;
+                }
+                index += digit * weight;
+                if (index > Character.MAX_CODE_POINT * (long) (length + 1)) {
+                    return FAILED;
+                }
+                var t = threshold(k, bias);
+                if (digit < t) {
+                    break;
+                }
+                weight *= BASE - t;
+            }
+            length++;
+            bias = adapt(index - previous, length, previous == 0);
+            n += (int) (index / length);
+            index %= length;
+            if (n > Character.MAX_CODE_POINT
+                    || (n >= Character.MIN_SURROGATE && n <= Character.MAX_SURROGATE)) {
+                return FAILED;
+            }
+            out = insert(target, offset, out, (int) index, n);
+            if (out == FAILED) {
+                return FAILED;
+            }
+            index++;
+        }
+        return out;
+    }
+
+    /**
+     * Inserts the code point before the code point at the given position.
+     *
+     * @return the new end of the decoded characters, or {@link #FAILED} if the buffer
+     *         is full
+     */
+    private static int insert(char[] target, int offset, int end, int position, int codePoint) {
+        var size = Character.charCount(codePoint);
+        if (end + size > target.length) {
+            return FAILED;
+        }
+        var at = offset;
+        for (var i = 0; i < position; i++) {
+            at += Character.isHighSurrogate(target[at]) ? 2 : 1;
+        }
+        System.arraycopy(target, at, target, at + size, end - at);
+        Character.toChars(codePoint, target, at);
+        return end + size;
+    }
+
+    private static int threshold(int k, int bias) {
+        if (k <= bias) {
+            return T_MIN;
+        }
+        return Math.min(k - bias, T_MAX);
+    }
+
+    private static int adapt(long delta, int length, boolean first) {
+        var scaled = first ? delta / DAMP : delta / 2;
+        scaled += scaled / length;
+        var k = 0;
+        while (scaled > ((BASE - T_MIN) * T_MAX) / 2) {
+            scaled /= BASE - T_MIN;
+            k += BASE;
+        }
+        var result = k + (int) ((BASE - T_MIN + 1) * scaled / (scaled + SKEW));
+        return result;
+    }
+
+    private static char digit(int value) {
+        var result = value < T_MAX ? (char) ('a' + value) : (char) ('0' + value - T_MAX);
+        return result;
+    }
+
+    private static int digitValue(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + T_MAX;
+        }
+        return -1;
+    }
+}
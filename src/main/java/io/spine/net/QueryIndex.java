@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.net.Uri.QueryParameter;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A view of the query parameters of a {@link Uri} which finds them by their keys.
+ *
+ * <p>The parameters of a {@code Uri} are a list, so finding a parameter by its key requires
+ * comparing the key with the keys of the parameters one by one. This is the fastest way to
+ * find a parameter among a few of them, so the view does so if there are less than
+ * {@value #INDEX_THRESHOLD} parameters, and allocates no memory but for the results.
+ *
+ * <p>Among more parameters, the view finds them by an open-addressing hash table of their keys,
+ * which is built on the first lookup. A key repeated in several parameters takes one slot of
+ * the table, which refers to the first of the parameters, and the rest of them are chained
+ * in their order.
+ *
+ * <p>The keys are compared as they are in the {@code Uri}, without decoding. The view is
+ * thread-safe.
+ */
+public final class QueryIndex {
+
+    /** The number of parameters starting from which they are found by the hash table. */
+    static final int INDEX_THRESHOLD = 8;
+
+    private static final int ABSENT = -1;
+
+    private final List<QueryParameter> parameters;
+    private volatile @Nullable Table table;
+
+    private QueryIndex(List<QueryParameter> parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates a view of the query parameters of the given {@code Uri}.
+     */
+    public static QueryIndex of(Uri uri) {
+        checkNotNull(uri);
+        return new QueryIndex(uri.getQueryList());
+    }
+
+    /** Obtains the number of the query parameters. */
+    public int size() {
+        return parameters.size();
+    }
+
+    /** Tells if there is a parameter with the given key. */
+    public boolean contains(String key) {
+        var result = first(key) != ABSENT;
+        return result;
+    }
+
+    /**
+     * Obtains the value of the first parameter with the given key.
+     *
+     * @return the value or {@code Optional.empty()} if there is no parameter with the key
+     */
+    public Optional<String> get(String key) {
+        var index = first(key);
+        if (index == ABSENT) {
+            return Optional.empty();
+        }
+        return Optional.of(parameters.get(index).getValue());
+    }
+
+    /**
+     * Obtains the value of the first parameter with the given key, or the given default value
+     * if there is no parameter with the key.
+     *
+     * <p>Unlike {@link #get(String)}, the method allocates no memory.
+     */
+    public String getOrDefault(String key, String defaultValue) {
+        checkNotNull(defaultValue);
+        var index = first(key);
+        if (index == ABSENT) {
+            return defaultValue;
+        }
+        return parameters.get(index).getValue();
+    }
+
+    /**
+     * Obtains the values of all parameters with the given key.
+     *
+     * @return the values in the order of the parameters, or an empty list if there is
+     *         no parameter with the key
+     */
+    public ImmutableList<String> getAll(String key) {
+        var index = first(key);
+        if (index == ABSENT) {
+            return ImmutableList.of();
+        }
+        var result = ImmutableList.<String>builder();
+        for (; index != ABSENT; index = next(key, index)) {
+            result.add(parameters.get(index).getValue());
+        }
+        return result.build();
+    }
+
+    /**
+     * Finds the first parameter with the given key.
+     *
+     * @return the index of the parameter or {@link #ABSENT} if there is none
+     */
+    private int first(String key) {
+        checkNotNull(key);
+        if (parameters.size() < INDEX_THRESHOLD) {
+            return scan(key, 0);
+        }
+        return table().first(key, parameters);
+    }
+
+    /**
+     * Finds the parameter with the given key which follows the parameter at the given index
+     * having the same key.
+     *
+     * @return the index of the parameter or {@link #ABSENT} if there is none
+     */
+    private int next(String key, int index) {
+        if (parameters.size() < INDEX_THRESHOLD) {
+            return scan(key, index + 1);
+        }
+        return table().next[index];
+    }
+
+    private int scan(String key, int start) {
+        var size = parameters.size();
+        for (var i = start; i < size; i++) {
+            if (key.equals(parameters.get(i).getKey())) {
+                return i;
+            }
+        }
+        return ABSENT;
+    }
+
+    private Table table() {
+        var result = table;
+        if (result == null) {
+            result = new Table(parameters);
+            table = result;
+        }
+        return result;
+    }
+
+    /**
+     * An open-addressing hash table of the keys of the parameters.
+     *
+     * <p>A slot holds the index of the first parameter with a key plus one, or zero if
+     * the slot is free. Collisions are resolved by linear probing. The table is at most half
+     * full, so probing is short.
+     */
+    private static final class Table {
+
+        private final int[] slots;
+        private final int mask;
+
+        /**
+         * The index of the next parameter with the same key for each parameter,
+         * or {@link #ABSENT} if the parameter is the last one with its key.
+         */
+        private final int[] next;
+
+        private Table(List<QueryParameter> parameters) {
+            var size = parameters.size();
+            var capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+            this.slots = new int[capacity];
+            this.mask = capacity - 1;
+            this.next = new int[size];
+            // The parameters are added from the last one, so that the slot of a key ends up
+            // referring to its first parameter, and each parameter refers to the next one.
+            for (var i = size - 1; i >= 0; i--) {
+                var key = parameters.get(i).getKey();
+                var slot = slot(key, parameters);
+                next[i] = slots[slot] - 1;
+                slots[slot] = i + 1;
+            }
+        }
+
+        private int first(String key, List<QueryParameter> parameters) {
+            var result = slots[slot(key, parameters)] - 1;
+            return result;
+        }
+
+        /**
+         * Finds the slot of the given key, or the free slot where it should be placed.
+         */
+        private int slot(String key, List<QueryParameter> parameters) {
+            var hash = key.hashCode();
+            var slot = (hash ^ (hash >>> 16)) & mask;
+            for (var entry = slots[slot]; entry != 0; entry = slots[slot]) {
+                if (key.equals(parameters.get(entry - 1).getKey())) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
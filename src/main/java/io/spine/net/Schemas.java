@@ -26,22 +26,29 @@
 
 package io.spine.net;
 
-import com.google.common.collect.ImmutableMap;
 import io.spine.net.Uri.Schema;
 
+import java.util.ArrayList;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
 
 /**
  * Utility class for working with {@link Schema}.
  */
 final class Schemas {
 
-    /** Maps a lowercase name of a schema to its instance. */
-    private static final Map<SchemaKey, Schema> map = buildSchemasMap();
+    /** Lowercase names of schemas indexed by their ordinals. */
+    private static final String[] names = buildNames();
+
+    /**
+     * Known schemas grouped by the length of their names.
+     *
+     * <p>The array is indexed by the length of a name. Each group has very few schemas,
+     * so a lookup compares the passed name with two or three candidates at most.
+     */
+    private static final Schema[][] byLength = groupByLength();
 
     /** Prevents instantiation of this utility class. */
     private Schemas() {
@@ -56,59 +63,108 @@ final class Schemas {
      */
     static Schema parse(String name) {
         checkNotNull(name);
-        var key = new SchemaKey(name);
-        var result = map.getOrDefault(key, Schema.UNDEFINED);
-        return result;
+        return parse(name, 0, name.length());
     }
 
-    private static Map<SchemaKey, Schema> buildSchemasMap() {
-        ImmutableMap.Builder<SchemaKey, Schema> schemas = ImmutableMap.builder();
-        for (var schema : Schema.values()) {
-            if (schema == Schema.UNDEFINED) {
-                continue;
+    /**
+     * Tries to find a schema by the name in the given region of the input.
+     *
+     * <p>The name is compared ignoring the case. The lookup does not allocate memory.
+     *
+     * @param input
+     *         the sequence containing the name of the schema
+     * @param start
+     *         the index of the first character of the name
+     * @param end
+     *         the index after the last character of the name
+     * @return {@link Schema} instance, or {@link Schema#UNDEFINED} if there is no schema with such
+     * a name
+     */
+    static Schema parse(CharSequence input, int start, int end) {
+        checkNotNull(input);
+        checkPositionIndexes(start, end, input.length());
+        var length = end - start;
+        if (length >= byLength.length) {
+            return Schema.UNDEFINED;
+        }
+        for (var schema : byLength[length]) {
+            if (matches(names[schema.ordinal()], input, start)) {
+                return schema;
             }
-            schemas.put(new SchemaKey(schema), schema);
         }
-        return schemas.build();
+        return Schema.UNDEFINED;
     }
 
     /**
-     * A key in the {@link #map} responsible for lowercase conversion of a schema name
-     * for lookup purposes.
+     * Checks if the input starting at the given index matches the lowercase name.
      *
-     * @see #parse(String)
+     * <p>Only ASCII letters are converted to lowercase. No other character lowercases to
+     * a letter used in a schema name without changing the length of the name.
      */
-    private static final class SchemaKey {
-
-        private final String value;
-
-        private SchemaKey(String value) {
-            this.value = toValue(value);
+    private static boolean matches(String name, CharSequence input, int start) {
+        for (var i = 0; i < name.length(); i++) {
+            var c = input.charAt(start + i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != name.charAt(i)) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        private SchemaKey(Schema schema) {
-            this(schema.name());
-        }
+    /**
+     * Obtains the name of the schema as it is written in URLs.
+     *
+     * @param schema the schema to name
+     * @return the lowercase name of the schema
+     */
+    static String nameOf(Schema schema) {
+        checkNotNull(schema);
+        return names[schema.ordinal()];
+    }
 
-        private static String toValue(String input) {
-            return input.toLowerCase(Locale.ENGLISH);
+    private static String[] buildNames() {
+        var schemas = Schema.values();
+        var result = new String[schemas.length];
+        for (var schema : schemas) {
+            result[schema.ordinal()] = schema.name()
+                                             .toLowerCase(Locale.ENGLISH);
         }
+        return result;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+    private static Schema[][] groupByLength() {
+        var maxLength = 0;
+        for (var schema : knownSchemas()) {
+            maxLength = Math.max(maxLength, nameOf(schema).length());
+        }
+        var result = new Schema[maxLength + 1][];
+        for (var length = 0; length <= maxLength; length++) {
+            var group = new ArrayList<Schema>();
+            for (var schema : knownSchemas()) {
+                if (nameOf(schema).length() == length) {
+                    group.add(schema);
+                }
             }
-            var schemaKey = (SchemaKey) o;
-            return Objects.equals(value, schemaKey.value);
+            result[length] = group.toArray(new Schema[0]);
         }
+        return result;
+    }
 
-        @Override
-        public int hashCode() {
-            return value.hashCode();
+    /**
+     * Obtains the schemas which may be found by name.
+     *
+     * <p>{@link Schema#UNDEFINED} and {@link Schema#UNRECOGNIZED} are not real schemas.
+     */
+    private static Iterable<Schema> knownSchemas() {
+        var result = new ArrayList<Schema>();
+        for (var schema : Schema.values()) {
+            if (schema != Schema.UNDEFINED && schema != Schema.UNRECOGNIZED) {
+                result.add(schema);
+            }
         }
+        return result;
     }
 }
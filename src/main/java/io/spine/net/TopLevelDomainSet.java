@@ -0,0 +1,276 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable set of top-level domain names.
+ *
+ * <p>The names are kept in an open-addressing hash table. The hash of a name is computed
+ * directly over a region of a character sequence, so that the last label of a host name
+ * can be looked up without creating a substring.
+ *
+ * <p>Names are compared ignoring the case of ASCII letters.
+ */
+final class TopLevelDomainSet {
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final char COMMENT_START = '#';
+
+    private final ImmutableList<String> names;
+    private final @Nullable String[] slots;
+    private final int mask;
+    private final int maxLength;
+
+    private TopLevelDomainSet(ImmutableList<String> names) {
+        this.names = names;
+        this.maxLength = names.stream()
+                              .mapToInt(String::length)
+                              .max()
+                              .orElse(0);
+        var capacity = Integer.highestOneBit(Math.max(names.size(), 1) * 2) * 2;
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+        for (var name : names) {
+            var index = hash(name, 0, name.length()) & mask;
+            while (slots[index] != null) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = name;
+        }
+    }
+
+    /**
+     * Creates a new set of the passed names.
+     *
+     * <p>The names are converted to lower case. The order of the first occurrences of the names
+     * is retained. Repeated names are ignored.
+     *
+     * @throws IllegalArgumentException
+     *         if one of the names is empty or contains a dot
+     */
+    static TopLevelDomainSet of(Iterable<String> names) {
+        checkNotNull(names);
+        var builder = ImmutableList.<String>builder();
+        var seen = new HashSet<String>();
+        for (var name : names) {
+            checkNotNull(name);
+            checkArgument(!name.isEmpty() && name.indexOf('.') < 0,
+                          "Not a top-level domain name: `%s`.", name);
+            var normalized = toLowerCase(name);
+            if (seen.add(normalized)) {
+                builder.add(normalized);
+            }
+        }
+        return new TopLevelDomainSet(builder.build());
+    }
+
+    /**
+     * Creates a new set of the names listed in the passed lines.
+     *
+     * <p>Each non-empty line which does not start with {@code '#'} is a name. Whitespace around
+     * names is ignored. The format is compatible with the IANA list of top-level domains.
+     *
+     * @throws IllegalArgumentException
+     *         if one of the names contains a dot
+     */
+    static TopLevelDomainSet parse(Iterable<String> lines) {
+        checkNotNull(lines);
+        var names = new ArrayList<String>();
+        for (var line : lines) {
+            var name = line.strip();
+            if (!name.isEmpty() && name.charAt(0) != COMMENT_START) {
+                names.add(name);
+            }
+        }
+        return of(names);
+    }
+
+    /**
+     * Tells if the given region of the sequence is a name from this set.
+     */
+    boolean contains(CharSequence sequence, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        var index = hash(sequence, start, end) & mask;
+        for (var name = slots[index]; name != null; name = slots[index]) {
+            if (matches(name, sequence, start, end)) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /** Obtains the names of this set in the order they were added. */
+    ImmutableList<String> names() {
+        return names;
+    }
+
+    /** Obtains the length of the longest name in this set. */
+    int maxLength() {
+        return maxLength;
+    }
+
+    /** Obtains the number of names in this set. */
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Creates a regular expression which matches the names of this set.
+     *
+     * <p>The names sharing a prefix are grouped under a single branch, so a matcher tries
+     * at most one branch per character instead of every name. A longer name is tried before
+     * a shorter one which is its prefix. The expression is case-sensitive and matches
+     * the names in lower case.
+     *
+     * <p>ASCII characters other than letters, digits and hyphens are escaped, so a name
+     * loaded from an external list always matches literally.
+     */
+    String toRegex() {
+        var root = new Node();
+        for (var name : names) {
+            var node = root;
+            for (var i = 0; i < name.length(); i++) {
+                node = node.children.computeIfAbsent(name.charAt(i), c -> new Node());
+            }
+            node.terminal = true;
+        }
+        var result = new StringBuilder(names.size() * 8);
+        result.append("(?:");
+        root.appendAlternatives(result);
+        result.append(')');
+        return result.toString();
+    }
+
+    private static int hash(CharSequence sequence, int start, int end) {
+        var result = 0;
+        for (var i = start; i < end; i++) {
+            result = HASH_MULTIPLIER * result + toLowerCase(sequence.charAt(i));
+        }
+        return result ^ (result >>> 16);
+    }
+
+    private static boolean matches(String name, CharSequence sequence, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (var i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != toLowerCase(sequence.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static String toLowerCase(String name) {
+        var result = new StringBuilder(name.length());
+        for (var i = 0; i < name.length(); i++) {
+            result.append(toLowerCase(name.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * A node of the prefix tree from which the regular expression is printed.
+     */
+    private static final class Node {
+
+        private final Map<Character, Node> children = new LinkedHashMap<>();
+        private boolean terminal;
+
+        /**
+         * Appends the alternatives of the names which continue this node.
+         */
+        private void appendAlternatives(StringBuilder regex) {
+            var first = true;
+            for (var entry : children.entrySet()) {
+                if (!first) {
+                    regex.append('|');
+                }
+                first = false;
+                appendLiteral(regex, entry.getKey());
+                entry.getValue().appendContinuation(regex);
+            }
+        }
+
+        /**
+         * Appends what may follow the prefix ending at this node.
+         */
+        private void appendContinuation(StringBuilder regex) {
+            if (children.isEmpty()) {
+                return;
+            }
+            if (children.size() == 1 && !terminal) {
+                var entry = children.entrySet().iterator().next();
+                appendLiteral(regex, entry.getKey());
+                entry.getValue().appendContinuation(regex);
+                return;
+            }
+            regex.append("(?:");
+            appendAlternatives(regex);
+            regex.append(')');
+            if (terminal) {
+                regex.append('?');
+            }
+        }
+
+        /**
+         * Appends the character so that it matches itself.
+         *
+         * <p>A backslash before an ASCII character which is not a letter or a digit always
+         * makes it a literal. Other characters are never special.
+         */
+        private static void appendLiteral(StringBuilder regex, char c) {
+            var plain = c >= 0x80
+                    || (c >= 'a' && c <= 'z')
+                    || (c >= 'A' && c <= 'Z')
+                    || (c >= '0' && c <= '9')
+                    || c == '-';
+            if (!plain) {
+                regex.append('\\');
+            }
+            regex.append(c);
+        }
+    }
+}
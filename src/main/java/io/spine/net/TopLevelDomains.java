@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.io.Resources;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Utility class for working with top-level domain names.
+ *
+ * <p>By default, the known names are those of the list bundled with this library as
+ * the {@code io/spine/net/top-level-domains.txt} resource. The list may be replaced at runtime
+ * by {@linkplain #reload(Path) loading} a file, e.g. a fresh copy of
+ * <a href="http://data.iana.org/TLD/tlds-alpha-by-domain.txt">the IANA list</a>.
+ *
+ * <p>A replacement list is fully built before it is published through a single volatile
+ * reference. Lookups never block and never observe a partially loaded list.
+ */
+public final class TopLevelDomains {
+
+    private static final String BUNDLED_LIST = "top-level-domains.txt";
+
+    /** The names from the bundled list. */
+    private static final TopLevelDomainSet BUNDLED = loadBundled();
+
+    /** The names currently considered known. */
+    private static volatile TopLevelDomainSet known = BUNDLED;
+
+    /** Prevent instantiation of this utility class. */
+    private TopLevelDomains() {
+    }
+
+    /**
+     * Tells if the passed name is a known top-level domain.
+     *
+     * <p>The name is compared ignoring the case of ASCII letters.
+     *
+     * @param name
+     *         the name without the leading dot, e.g. {@code "io"}
+     */
+    public static boolean contains(CharSequence name) {
+        checkNotNull(name);
+        var result = known.contains(name, 0, name.length());
+        return result;
+    }
+
+    /**
+     * Replaces the known names with the names listed in the given file.
+     *
+     * <p>The file lists one name per line. Empty lines and lines starting with {@code '#'}
+     * are ignored. The file of the IANA list has this format.
+     *
+     * @param file
+     *         the UTF-8 file to load the names from
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     * @throws IllegalArgumentException
+     *         if one of the listed names contains a dot
+     */
+    public static void reload(Path file) {
+        checkNotNull(file);
+        try {
+            var lines = Files.readAllLines(file, UTF_8);
+            known = TopLevelDomainSet.parse(lines);
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e, "Unable to load top-level domains from `%s`.", file);
+        }
+    }
+
+    /**
+     * Restores the names of the list bundled with this library.
+     */
+    public static void resetToBundled() {
+        known = BUNDLED;
+    }
+
+    /**
+     * Tells if the given region of the sequence is a known top-level domain.
+     */
+    static boolean contains(CharSequence sequence, int start, int end) {
+        return known.contains(sequence, start, end);
+    }
+
+    /**
+     * Obtains the names currently considered known.
+     *
+     * <p>Callers which perform several lookups should obtain the set once, so that all
+     * the lookups observe the same list.
+     */
+    static TopLevelDomainSet current() {
+        return known;
+    }
+
+    /**
+     * Obtains a regular expression which matches the names of the bundled list in lower case.
+     *
+     * <p>The expression does not follow {@linkplain #reload(Path) replacements} of the list.
+     */
+    static String regex() {
+        return BUNDLED.toRegex();
+    }
+
+    private static TopLevelDomainSet loadBundled() {
+        var resource = Resources.getResource(TopLevelDomains.class, BUNDLED_LIST);
+        try {
+            var lines = Resources.asCharSource(resource, UTF_8).readLines();
+            return TopLevelDomainSet.parse(lines);
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e, "Unable to load the bundled top-level domains from `%s`.", resource);
+        }
+    }
+}
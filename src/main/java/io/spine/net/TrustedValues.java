@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Creates values from strings known to be valid, validating only a sample of them.
+ *
+ * <p>The values are created lazily, as the iterator advances. With a sample interval of
+ * {@code n}, the strings at indexes {@code 0}, {@code n}, {@code 2n} and so on are
+ * validated, so that systematically corrupt data is still caught early. An interval of
+ * {@code 0} turns the validation off.
+ *
+ * @param <T>
+ *         the type of the created values
+ */
+final class TrustedValues<T> implements Iterator<T> {
+
+    private final Iterator<String> values;
+    private final Predicate<String> check;
+    private final Function<String, T> create;
+    private final int sampleInterval;
+    private final String type;
+
+    /** The number of values to create before validating the next one. */
+    private int untilSample;
+    private long index;
+
+    /**
+     * Creates a new iterator.
+     *
+     * @param values
+     *         the strings to create the values from
+     * @param check
+     *         the validation of the sampled strings
+     * @param create
+     *         the function which creates a value without validating the string
+     * @param sampleInterval
+     *         the number of the values per a validated one, or {@code 0} to validate none
+     * @param type
+     *         the name of the type of the values to report the invalid ones
+     */
+    TrustedValues(Iterator<String> values,
+                  Predicate<String> check,
+                  Function<String, T> create,
+                  int sampleInterval,
+                  String type) {
+        checkArgument(sampleInterval >= 0,
+                      "The sample interval must not be negative, but was %s.", sampleInterval);
+        this.values = checkNotNull(values);
+        this.check = check;
+        this.create = create;
+        this.sampleInterval = sampleInterval;
+        this.type = type;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return values.hasNext();
+    }
+
+    /**
+     * Creates the next value.
+     *
+     * @throws IllegalArgumentException
+     *         if the string is sampled for validation and is not valid
+     */
+    @Override
+    public T next() {
+        var value = checkNotNull(values.next(), "The value at index %s is `null`.", index);
+        if (sampleInterval > 0) {
+            if (untilSample == 0) {
+                if (!check.test(value)) {
+                    throw newIllegalArgumentException(
+                            "The value `%s` at index %s is not a valid %s.", value, index, type);
+                }
+                untilSample = sampleInterval;
+            }
+            untilSample--;
+        }
+        index++;
+        return create.apply(value);
+    }
+}
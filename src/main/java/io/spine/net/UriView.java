@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.net.Uri.Schema;
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.net.UrlScanner.FRAGMENT;
+import static io.spine.net.UrlScanner.HOST;
+import static io.spine.net.UrlScanner.PASSWORD;
+import static io.spine.net.UrlScanner.PATH;
+import static io.spine.net.UrlScanner.PORT;
+import static io.spine.net.UrlScanner.PROTOCOL;
+import static io.spine.net.UrlScanner.QUERY;
+import static io.spine.net.UrlScanner.TABLE_SIZE;
+import static io.spine.net.UrlScanner.USER_NAME;
+
+/**
+ * A read-only structured view of a URL.
+ *
+ * <p>The view keeps the URL spec and the offsets of its components. The components are
+ * obtained as slices of the spec, so reading them does not copy characters.
+ * A {@link Uri} message is built only when {@linkplain #toUri() requested}.
+ *
+ * <p>The components are recognized in the same way as when the URL is parsed into
+ * a {@code Uri}. A missing component is represented by an empty sequence.
+ */
+public final class UriView {
+
+    private final String spec;
+    private final int[] offsets;
+    private volatile @Nullable Uri uri;
+
+    private UriView(String spec, int[] offsets) {
+        this.spec = spec;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Creates a view of the given URL.
+     */
+    public static UriView of(Url url) {
+        checkNotNull(url);
+        return of(url.getSpec());
+    }
+
+    /**
+     * Creates a view of the URL with the given spec.
+     */
+    public static UriView of(String spec) {
+        checkNotNull(spec);
+        var offsets = new int[TABLE_SIZE];
+        UrlScanner.scan(spec, offsets);
+        return new UriView(spec, offsets);
+    }
+
+    /**
+     * Creates a view of the URL which is already scanned.
+     *
+     * @param spec
+     *         the URL spec
+     * @param offsets
+     *         the offsets of the URL components filled by {@link UrlScanner}, which are
+     *         not copied
+     */
+    static UriView of(String spec, int[] offsets) {
+        return new UriView(spec, offsets);
+    }
+
+    /** Obtains the spec of the viewed URL. */
+    public String spec() {
+        return spec;
+    }
+
+    /**
+     * Obtains the schema of the URL protocol.
+     *
+     * @return the schema, or {@link Schema#UNDEFINED} if the protocol is missing or unknown
+     */
+    public Schema schema() {
+        if (!present(PROTOCOL)) {
+            return Schema.UNDEFINED;
+        }
+        return Schemas.parse(spec, offsets[PROTOCOL], offsets[PROTOCOL + 1]);
+    }
+
+    /** Obtains the name of the URL protocol as it is written in the spec. */
+    public CharSequence protocol() {
+        return component(PROTOCOL);
+    }
+
+    /** Tells if the URL has credentials. */
+    public boolean hasCredentials() {
+        return present(USER_NAME);
+    }
+
+    /** Obtains the user name from the credentials of the URL. */
+    public CharSequence userName() {
+        return component(USER_NAME);
+    }
+
+    /** Obtains the password from the credentials of the URL. */
+    public CharSequence password() {
+        return component(PASSWORD);
+    }
+
+    /** Obtains the host of the URL. */
+    public CharSequence host() {
+        return component(HOST);
+    }
+
+    /** Obtains the port of the URL. */
+    public CharSequence port() {
+        return component(PORT);
+    }
+
+    /** Obtains the resource path of the URL. */
+    public CharSequence path() {
+        return component(PATH);
+    }
+
+    /** Obtains the query of the URL without the leading {@code '?'}. */
+    public CharSequence query() {
+        return component(QUERY);
+    }
+
+    /** Obtains the fragment of the URL. */
+    public CharSequence fragment() {
+        return component(FRAGMENT);
+    }
+
+    /**
+     * Obtains the {@code Uri} message with the components of the URL.
+     *
+     * <p>The message is built {@linkplain UrlParser.Mode#LENIENT leniently} on the first call
+     * to this method.
+     */
+    public Uri toUri() {
+        var result = uri;
+        if (result == null) {
+            result = UrlParser.parse(spec, offsets);
+            uri = result;
+        }
+        return result;
+    }
+
+    private boolean present(int component) {
+        return offsets[component] != -1;
+    }
+
+    private CharSequence component(int component) {
+        if (!present(component)) {
+            return CharSlice.empty();
+        }
+        return CharSlice.of(spec, offsets[component], offsets[component + 1]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UriView)) {
+            return false;
+        }
+        var other = (UriView) o;
+        return spec.equals(other.spec);
+    }
+
+    @Override
+    public int hashCode() {
+        return spec.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Extracts URLs from large UTF-8 text files, such as access and crawl logs.
+ *
+ * <p>The file is mapped to memory and split into chunks of whole lines, which are scanned in
+ * parallel by the workers of a pool. A chunk of ASCII text is scanned right over the mapped
+ * bytes, so no {@code String} is created but for the found URLs. A chunk with other characters
+ * is decoded once, with malformed sequences decoded to {@code U+FFFD}.
+ *
+ * <p>The URLs are the ones {@linkplain AutolinkScanner#findUrls(CharSequence) found} by
+ * the {@link AutolinkScanner}. The {@linkplain Autolink#start() positions} of the URLs are
+ * offsets of bytes in the file.
+ *
+ * <p>The found URLs are passed to the given action by the workers concurrently, so the action
+ * must be thread-safe. The URLs of a chunk are passed in the order of their positions, but
+ * the chunks are scanned in no particular order.
+ */
+public final class UrlExtractor {
+
+    /** The approximate number of bytes in a chunk of a file. */
+    private static final long CHUNK_SIZE = 4L << 20;
+
+    /** The number of bytes read at once while looking for the end of a line. */
+    private static final int LINE_END_SEARCH = 4096;
+
+    /** Prevent instantiation of this utility class. */
+    private UrlExtractor() {
+    }
+
+    /**
+     * Finds the URLs in the given file using the {@linkplain ForkJoinPool#commonPool() common
+     * pool}.
+     *
+     * @see #scan(Path, ForkJoinPool, Consumer)
+     */
+    public static void scan(Path file, Consumer<? super Autolink> action) {
+        scan(file, ForkJoinPool.commonPool(), action);
+    }
+
+    /**
+     * Finds the URLs in the given file in parallel, passing them to the given action.
+     *
+     * @param file
+     *         the UTF-8 text file to scan
+     * @param pool
+     *         the pool to run the scanning
+     * @param action
+     *         the thread-safe action to perform on the found URLs
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     */
+    public static void scan(Path file, ForkJoinPool pool, Consumer<? super Autolink> action) {
+        scan(file, pool, CHUNK_SIZE, action);
+    }
+
+    /**
+     * Finds the URLs in the given file and {@linkplain Urls#tryParse(String) parses} them using
+     * the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #parse(Path, ForkJoinPool, Consumer)
+     */
+    public static void parse(Path file, Consumer<? super ParsedUrl> action) {
+        parse(file, ForkJoinPool.commonPool(), action);
+    }
+
+    /**
+     * Finds the URLs in the given file and {@linkplain Urls#tryParse(String) parses} them in
+     * parallel, passing the results to the given action.
+     *
+     * <p>Each URL is parsed by the worker which found it. A URL which cannot be parsed does not
+     * stop the processing. Instead, its result holds the error.
+     *
+     * @param file
+     *         the UTF-8 text file to scan
+     * @param pool
+     *         the pool to run the scanning and the parsing
+     * @param action
+     *         the thread-safe action to perform on the results of parsing
+     * @throws IllegalStateException
+     *         if the file cannot be read
+     */
+    public static void parse(Path file, ForkJoinPool pool, Consumer<? super ParsedUrl> action) {
+        checkNotNull(action);
+        scan(file, pool, CHUNK_SIZE, link -> action.accept(Urls.tryParse(link.value())));
+    }
+
+    /**
+     * Finds the URLs in the given file split into chunks of about the given size.
+     */
+    static void scan(Path file, ForkJoinPool pool, long chunkSize,
+                     Consumer<? super Autolink> action) {
+        checkNotNull(file);
+        checkNotNull(pool);
+        checkNotNull(action);
+        checkArgument(chunkSize > 0);
+        try (var channel = FileChannel.open(file, READ)) {
+            var bounds = chunkBounds(channel, chunkSize);
+            pool.invoke(new ScanTask(file, channel, bounds, 0, bounds.length - 1, action));
+        } catch (IOException e) {
+            throw newIllegalStateException(e, "Unable to scan the file `%s`.", file);
+        }
+    }
+
+    /**
+     * Splits the file into chunks of whole lines.
+     *
+     * <p>A chunk ends right after the first line feed which is at least {@code chunkSize} bytes
+     * after its start, or at the end of the file.
+     *
+     * @return the offsets of the starts of the chunks followed by the size of the file
+     */
+    private static long[] chunkBounds(FileChannel channel, long chunkSize) throws IOException {
+        var size = channel.size();
+        var bounds = new long[(int) Math.min(size / chunkSize + 2, Integer.MAX_VALUE)];
+        var count = 0;
+        var buffer = ByteBuffer.allocate(LINE_END_SEARCH);
+        for (var start = 0L; start < size; ) {
+            bounds[count++] = start;
+            start = lineEnd(channel, buffer, start + chunkSize - 1, size);
+        }
+        bounds[count++] = size;
+        var result = Arrays.copyOf(bounds, count);
+        return result;
+    }
+
+    /**
+     * Finds the end of the line which the byte at the given position belongs to.
+     *
+     * @return the position after the line feed which ends the line,
+     *         or the size of the file if the line is the last one
+     */
+    private static long lineEnd(FileChannel channel, ByteBuffer buffer, long position, long size)
+            throws IOException {
+        for (var start = position; start < size; ) {
+            buffer.clear();
+            var read = channel.read(buffer, start);
+            checkState(read > 0, "Unable to read the file at the position %s.", start);
+            for (var i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            start += read;
+        }
+        return size;
+    }
+
+    /**
+     * Scans a range of chunks, splitting it in halves while it has more than one chunk.
+     */
+    @SuppressWarnings("PMD.BeanMembersShouldSerialize" /* which is dubious rule. */)
+    private static final class ScanTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 0L;
+
+        private final Path file;
+        private final FileChannel channel;
+        private final long[] bounds;
+        private final int start;
+        private final int end;
+        private final Consumer<? super Autolink> action;
+
+        private ScanTask(Path file, FileChannel channel, long[] bounds, int start, int end,
+                         Consumer<? super Autolink> action) {
+            super();
+            this.file = file;
+            this.channel = channel;
+            this.bounds = bounds;
+            this.start = start;
+            this.end = end;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= 1) {
+                if (start < end) {
+                    scanChunk(start);
+                }
+                return;
+            }
+            var middle = (start + end) >>> 1;
+            invokeAll(new ScanTask(file, channel, bounds, start, middle, action),
+                      new ScanTask(file, channel, bounds, middle, end, action));
+        }
+
+        /**
+         * Scans the chunk with the given index.
+         *
+         * <p>Every chunk but the last one ends with a line feed and is followed by more bytes,
+         * so it is scanned as an incomplete text.
+         */
+        private void scanChunk(int index) {
+            var chunkStart = bounds[index];
+            var length = bounds[index + 1] - chunkStart;
+            checkState(length <= Integer.MAX_VALUE,
+                       "The line at the position %s of the file `%s` is too long to scan.",
+                       chunkStart, file);
+            Utf8Text text;
+            try {
+                text = Utf8Text.of(channel.map(READ_ONLY, chunkStart, length));
+            } catch (IOException e) {
+                throw newIllegalStateException(e, "Unable to scan the file `%s`.", file);
+            }
+            var complete = index == bounds.length - 2;
+            var matcher = new AutolinkMatcher(true, false);
+            // The links are found at `chunkStart` plus the index of a character, so that
+            // the `^` anchor matches only at the start of the file.
+            matcher.scan(text, 0, text.length(), chunkStart, complete, false, link -> {
+                var value = link.value();
+                var linkStart = chunkStart + text.byteOffset((int) (link.start() - chunkStart));
+                var linkEnd = chunkStart + text.byteOffset((int) (link.end() - chunkStart));
+                action.accept(Autolink.of(link.kind(), linkStart, linkEnd,
+                                          value, 0, value.length()));
+            });
+        }
+    }
+}
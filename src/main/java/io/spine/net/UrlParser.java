@@ -26,18 +26,49 @@
 
 package io.spine.net;
 
-import com.google.common.base.Splitter;
+import io.spine.net.Uri.Authorization;
 import io.spine.net.Uri.Protocol;
+import io.spine.net.Uri.QueryParameter;
 import io.spine.net.Uri.Schema;
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.net.UrlScanner.FRAGMENT;
+import static io.spine.net.UrlScanner.HOST;
+import static io.spine.net.UrlScanner.PASSWORD;
+import static io.spine.net.UrlScanner.PATH;
+import static io.spine.net.UrlScanner.PORT;
+import static io.spine.net.UrlScanner.PROTOCOL;
+import static io.spine.net.UrlScanner.QUERY;
+import static io.spine.net.UrlScanner.TABLE_SIZE;
+import static io.spine.net.UrlScanner.USER_NAME;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Parses given URL to {@link Uri} instance.
+ *
+ * <p>The URL is scanned once by {@link UrlScanner}, which finds the offsets of the URL
+ * components. Then only the strings which become the fields of the resulting {@code Uri}
+ * are copied from the original URL.
+ *
+ * <p>A parser works in one of the {@linkplain Mode modes}, which differ in handling of
+ * malformed query parameters. By default, a parser is {@linkplain Mode#LENIENT lenient} and
+ * never fails. A {@linkplain Mode#STRICT strict} parser rejects a URL with a malformed query
+ * parameter. It either throws an exception from {@link #parse(String)} or, without creating
+ * an exception, reports the error via the result of {@link #tryParse(String)}.
+ *
+ * <p>A parser is reusable. It keeps the scanner, the table of offsets and the message
+ * builders between calls to {@link #parse(String)}, so parsing a URL produces no garbage
+ * except for the resulting message. A parser is not thread-safe. Use
+ * {@link #forCurrentThread()} to obtain an instance confined to the calling thread,
+ * for example, in a worker of a {@code ForkJoinPool}.
  */
 @SuppressWarnings({
         "CheckReturnValue" /* of calls to methods of fields that are builders */,
         "PMD.BeanMembersShouldSerialize" /* which is dubious rule. */
 })
-final class UrlParser {
+public final class UrlParser {
 
     private static final char SEMICOLON = ':';
     static final String PROTOCOL_ENDING = "://";
@@ -45,169 +76,445 @@ final class UrlParser {
     static final char CREDENTIALS_SEPARATOR = SEMICOLON;
     static final char HOST_ENDING = '/';
     static final char HOST_PORT_SEPARATOR = SEMICOLON;
+    private static final char IPV6_START = '[';
+    private static final char IPV6_END = ']';
 
     static final char FRAGMENT_START = '#';
     static final char QUERIES_START = '?';
     static final char QUERY_SEPARATOR = '&';
-    private static final Splitter querySplitter = Splitter.on(QUERY_SEPARATOR);
 
-    private final String originalUrl;
+    private static final ThreadLocal<UrlParser> lenientPerThread =
+            ThreadLocal.withInitial(() -> new UrlParser(Mode.LENIENT));
+
+    private static final ThreadLocal<UrlParser> strictPerThread =
+            ThreadLocal.withInitial(() -> new UrlParser(Mode.STRICT));
+
+    private final Mode mode;
+
+    private final UrlScanner scanner = new UrlScanner();
+
+    /** The offsets of the URL components as found by {@link UrlScanner}. */
+    private final int[] table = new int[TABLE_SIZE];
 
-    private Uri.Builder record;
-    private String unProcessedInput;
+    private final Uri.Builder record = Uri.newBuilder();
+    private final Protocol.Builder protocol = Protocol.newBuilder();
+    private final Authorization.Builder auth = Authorization.newBuilder();
+    private final QueryParameter.Builder param = QueryParameter.newBuilder();
+
+    /** The URL being parsed. */
+    private String originalUrl = "";
+
+    /** The offsets of the components of {@link #originalUrl}. */
+    private int[] offsets = table;
+
+    /** The start of the malformed query parameter, if the last URL has one. */
+    private int errorStart;
+
+    /** The end of the malformed query parameter, if the last URL has one. */
+    private int errorEnd;
+
+    private UrlParser(Mode mode) {
+        this.mode = mode;
+    }
 
     /**
-     * Creates an new instance of {@code UrlParser} with given String URL to parse.
-     *
-     * @param url String URL to parse
+     * Creates a new lenient parser.
      */
-    UrlParser(String url) {
-        this.originalUrl = url;
+    public static UrlParser newInstance() {
+        return newInstance(Mode.LENIENT);
     }
 
     /**
-     * Performs the parsing.
+     * Creates a new parser working in the given mode.
      */
-    Uri parse() {
-        init();
-
-        parseProtocol();
-        parseCredentials();
-        parseFragment();
-        parseQueries();
-        parseHost();
-        parsePath();
+    public static UrlParser newInstance(Mode mode) {
+        checkNotNull(mode);
+        return new UrlParser(mode);
+    }
 
+    /**
+     * Obtains the lenient parser owned by the current thread.
+     *
+     * <p>The returned instance must not be passed to other threads.
+     */
+    public static UrlParser forCurrentThread() {
+        return forCurrentThread(Mode.LENIENT);
+    }
 
-        return record.build();
+    /**
+     * Obtains the parser working in the given mode owned by the current thread.
+     *
+     * <p>The returned instance must not be passed to other threads.
+     */
+    public static UrlParser forCurrentThread(Mode mode) {
+        checkNotNull(mode);
+        return mode == Mode.LENIENT
+               ? lenientPerThread.get()
+               : strictPerThread.get();
     }
 
-    /** Initializes the parser. */
-    private void init() {
-        record = Uri.newBuilder();
-        unProcessedInput = originalUrl;
+    /** Obtains the mode of this parser. */
+    public Mode mode() {
+        return mode;
     }
 
     /**
-     * Parses protocol from remembered URL String and saves it to the state.
+     * Leniently builds a {@code Uri} from the URL which is already scanned.
      *
-     * <ul>
-     *     <li>If no suitable protocol found, saves UNDEFINED value.
-     *     <li>If some value is found but the schema is unknown, saves raw value.
-     * </ul>
+     * @param url
+     *         String URL to parse
+     * @param offsets
+     *         the offsets of the URL components filled by {@link UrlScanner}
      */
-    private void parseProtocol() {
-        var protocolBuilder = Protocol.newBuilder();
-        var protocolEndingIndex = unProcessedInput.indexOf(PROTOCOL_ENDING);
-        if (protocolEndingIndex == -1) {
-            protocolBuilder.setSchema(Schema.UNDEFINED);
-            record.setProtocol(protocolBuilder);
-            return;
-        }
-        var protocol = unProcessedInput.substring(0, protocolEndingIndex);
-        unProcessedInput = unProcessedInput.substring(protocolEndingIndex +
-                                                      PROTOCOL_ENDING.length());
+    static Uri parse(String url, int[] offsets) {
+        var result = forCurrentThread().build(url, offsets);
+        return requireNonNull(result);
+    }
 
-        var schema = Schemas.parse(protocol);
+    /**
+     * Parses the passed URL.
+     *
+     * @param url
+     *         String URL to parse
+     * @return the components of the URL
+     * @throws IllegalArgumentException
+     *         if the parser is {@linkplain Mode#STRICT strict} and the URL has
+     *         a bad-formed query parameter
+     */
+    public Uri parse(String url) {
+        scan(url);
+        return parseScanned(url, table);
+    }
 
-        if (schema == Schema.UNDEFINED) {
-            protocolBuilder.setName(protocol);
-        } else {
-            protocolBuilder.setSchema(schema);
-        }
+    /**
+     * Parses the passed URL reporting a failure as a value.
+     *
+     * @param url
+     *         String URL to parse
+     * @return the parsed URL or the error, if the parser is {@linkplain Mode#STRICT strict}
+     *         and the URL has a bad-formed query parameter
+     */
+    public ParsedUrl tryParse(String url) {
+        scan(url);
+        return tryParseScanned(url, table);
+    }
 
-        record.setProtocol(protocolBuilder.build());
+    private void scan(String url) {
+        checkNotNull(url);
+        scanner.reset();
+        scanner.accept(url, 0, url.length());
+        scanner.finish(table);
     }
 
-    /** Parses credentials from remembered URL String and saves them to the state. */
-    private void parseCredentials() {
-        var credentialsEndingIndex = unProcessedInput.indexOf(CREDENTIALS_ENDING);
-        if (credentialsEndingIndex == -1) {
-            return;
+    /**
+     * Parses the URL which is already scanned.
+     *
+     * @param url
+     *         String URL to parse
+     * @param offsets
+     *         the offsets of the URL components filled by {@link UrlScanner}
+     * @throws IllegalArgumentException
+     *         if the parser is {@linkplain Mode#STRICT strict} and the URL has
+     *         a bad-formed query parameter
+     * @see #parse(String)
+     */
+    Uri parseScanned(String url, int[] offsets) {
+        var result = build(url, offsets);
+        if (result == null) {
+            throw UrlQueryParameters.invalidParameter(url, errorStart, errorEnd);
         }
+        return result;
+    }
 
-        var credential = unProcessedInput.substring(0, credentialsEndingIndex);
-        unProcessedInput = unProcessedInput.substring(credentialsEndingIndex + 1);
+    /**
+     * Parses the URL which is already scanned reporting a failure as a value.
+     *
+     * @param url
+     *         String URL to parse
+     * @param offsets
+     *         the offsets of the URL components filled by {@link UrlScanner}
+     * @see #tryParse(String)
+     */
+    ParsedUrl tryParseScanned(String url, int[] offsets) {
+        var result = build(url, offsets);
+        if (result == null) {
+            return ParsedUrl.failure(url, errorStart, errorEnd);
+        }
+        return ParsedUrl.success(url, result);
+    }
 
-        var auth = Uri.Authorization.newBuilder();
+    /**
+     * Parses the URL of an HTTP request from its origin-form request target and the value of
+     * the {@code Host} header.
+     *
+     * <p>The result is the same as of parsing the absolute URL made of the schema, the host
+     * and the target, e.g. {@code "https://spine.io:8080/docs?page=2"} for {@code "spine.io:8080"}
+     * and {@code "/docs?page=2"}, except that the target is never searched for credentials
+     * or a protocol, and that the port is found as it is in a {@code Host} header. The target
+     * is split into the path, the queries and the fragment in one pass.
+     *
+     * <p>The port is the part of the host after its last {@code ':'}. If the host is
+     * a bracketed IPv6 address, such as {@code "[::1]:8080"}, the port is the part after
+     * the {@code ':'} following the closing bracket, and the host keeps the brackets.
+     *
+     * @param schema
+     *         the schema of the request, such as {@code HTTP} or {@code HTTPS}
+     * @param host
+     *         the value of the {@code Host} header
+     * @param target
+     *         the request target, which starts with {@code '/'}
+     * @return the components of the URL
+     * @throws IllegalArgumentException
+     *         if the schema is {@code UNRECOGNIZED}, if the target does not start with
+     *         {@code '/'}, or if the parser is {@linkplain Mode#STRICT strict} and the target
+     *         has a bad-formed query parameter
+     */
+    public Uri parseRequest(Schema schema, String host, String target) {
+        checkNotNull(schema);
+        checkArgument(schema != Schema.UNRECOGNIZED,
+                      "The schema of a request must be a known one, or `UNDEFINED`.");
+        checkNotNull(host);
+        checkNotNull(target);
+        checkArgument(!target.isEmpty() && target.charAt(0) == HOST_ENDING,
+                      "The request target `%s` is not in the origin form.", target);
+        scanRequestTarget(target);
+        var result = buildRequest(schema, host, target);
+        if (result == null) {
+            throw UrlQueryParameters.invalidParameter(target, errorStart, errorEnd);
+        }
+        return result;
+    }
 
-        var credentialsSeparatorIndex = credential.indexOf(CREDENTIALS_SEPARATOR);
-        if (credentialsSeparatorIndex != -1) {
-            var userName = credential.substring(0, credentialsSeparatorIndex);
-            var password = credential.substring(credentialsSeparatorIndex + 1);
-            auth.setPassword(password);
-            auth.setUserName(userName);
+    /**
+     * Finds the path, the queries, and the fragment of the origin-form request target.
+     *
+     * <p>The components are found by the rules of {@link UrlScanner}.
+     */
+    private void scanRequestTarget(String target) {
+        var length = target.length();
+        var firstQuestionMark = -1;
+        var lastHash = -1;
+        for (var i = 1; i < length; i++) {
+            var c = target.charAt(i);
+            if (c == FRAGMENT_START) {
+                lastHash = i;
+            } else if (c == QUERIES_START && firstQuestionMark == -1) {
+                firstQuestionMark = i;
+            }
+        }
+        var rest = length;
+        if (lastHash == -1) {
+            setOffsets(FRAGMENT, -1, -1);
+        } else {
+            setOffsets(FRAGMENT, lastHash + 1, length);
+            rest = lastHash;
+        }
+        if (firstQuestionMark != -1 && firstQuestionMark < rest) {
+            setOffsets(QUERY, firstQuestionMark + 1, rest);
+            rest = firstQuestionMark;
         } else {
-            auth.setUserName(credential);
+            setOffsets(QUERY, -1, -1);
         }
+        setOffsets(PATH, 1, rest);
+    }
 
-        record.setAuth(auth.build());
+    private void setOffsets(int component, int start, int end) {
+        table[component] = start;
+        table[component + 1] = end;
+    }
+
+    /**
+     * Builds a {@code Uri} from the scanned request target.
+     *
+     * @return the built URL or {@code null} if a strict parser found
+     *         a malformed query parameter
+     */
+    private @Nullable Uri buildRequest(Schema schema, String host, String target) {
+        this.originalUrl = target;
+        this.offsets = table;
+        record.clear();
+        try {
+            protocol.clear();
+            record.setProtocol(protocol.setSchema(schema)
+                                       .build());
+            var portStart = portSeparator(host);
+            if (portStart == -1) {
+                record.setHost(host);
+            } else {
+                record.setHost(host.substring(0, portStart));
+                record.setPort(host.substring(portStart + 1));
+            }
+            setPath();
+            if (!setQueries()) {
+                return null;
+            }
+            setFragment();
+            return record.build();
+        } finally {
+            this.originalUrl = "";
+        }
     }
 
-    /** Parses host and port and saves them to the state. */
-    private void parseHost() {
-        var hostEndingIndex = unProcessedInput.indexOf(HOST_ENDING);
-        String host;
+    /**
+     * Finds the {@code ':'} which separates the port in the value of a {@code Host} header.
+     *
+     * @return the index of the separator or {@code -1} if there is no port
+     */
+    private static int portSeparator(String host) {
+        if (host.isEmpty() || host.charAt(0) != IPV6_START) {
+            return host.lastIndexOf(HOST_PORT_SEPARATOR);
+        }
+        var ipEnd = host.indexOf(IPV6_END);
+        var separator = ipEnd + 1;
+        if (ipEnd == -1
+                || separator == host.length()
+                || host.charAt(separator) != HOST_PORT_SEPARATOR) {
+            return -1;
+        }
+        return separator;
+    }
 
-        if (hostEndingIndex == -1) {
-            host = unProcessedInput;
-            unProcessedInput = "";
-        } else {
-            host = unProcessedInput.substring(0, hostEndingIndex);
-            unProcessedInput = unProcessedInput.substring(hostEndingIndex + 1);
+    /**
+     * Builds a {@code Uri} from the scanned URL.
+     *
+     * @return the built URL or {@code null} if a strict parser found
+     *         a malformed query parameter
+     */
+    private @Nullable Uri build(String url, int[] offsets) {
+        this.originalUrl = url;
+        this.offsets = offsets;
+        record.clear();
+        try {
+            setProtocol();
+            setCredentials();
+            setHost();
+            setPath();
+            if (!setQueries()) {
+                return null;
+            }
+            setFragment();
+            return record.build();
+        } finally {
+            this.originalUrl = "";
+            this.offsets = table;
         }
+    }
 
-        var portIndex = host.indexOf(HOST_PORT_SEPARATOR);
-        if (portIndex != -1) {
-            var port = host.substring(portIndex + 1);
-            record.setPort(port);
-            var hostAddress = host.substring(0, portIndex);
-            record.setHost(hostAddress);
+    /**
+     * Sets the protocol of the URL.
+     *
+     * <ul>
+     *     <li>If no suitable protocol found, saves UNDEFINED value.
+     *     <li>If some value is found but the schema is unknown, saves raw value.
+     * </ul>
+     */
+    private void setProtocol() {
+        protocol.clear();
+        if (!present(PROTOCOL)) {
+            protocol.setSchema(Schema.UNDEFINED);
         } else {
-            record.setHost(host);
+            var schema = Schemas.parse(originalUrl, offsets[PROTOCOL], offsets[PROTOCOL + 1]);
+            if (schema == Schema.UNDEFINED) {
+                protocol.setName(component(PROTOCOL));
+            } else {
+                protocol.setSchema(schema);
+            }
         }
+        record.setProtocol(protocol.build());
     }
 
-    /** Parses fragment and saves it to the state. */
-    private void parseFragment() {
-        var fragmentIndex = unProcessedInput.lastIndexOf(FRAGMENT_START);
-        if (fragmentIndex == -1) {
+    /** Sets the credentials, if the URL has them. */
+    private void setCredentials() {
+        if (!present(USER_NAME)) {
             return;
         }
+        auth.clear();
+        auth.setUserName(component(USER_NAME));
+        if (present(PASSWORD)) {
+            auth.setPassword(component(PASSWORD));
+        }
+        record.setAuth(auth.build());
+    }
 
-        var fragment = unProcessedInput.substring(fragmentIndex + 1);
-        unProcessedInput = unProcessedInput.substring(0, fragmentIndex);
+    /** Sets the host and the port. */
+    private void setHost() {
+        record.setHost(component(HOST));
+        if (present(PORT)) {
+            record.setPort(component(PORT));
+        }
+    }
 
-        record.setFragment(fragment);
+    /** Sets the URL resource path. */
+    private void setPath() {
+        if (nonEmpty(PATH)) {
+            record.setPath(component(PATH));
+        }
     }
 
     /**
-     * Parses query parameters and saves them to the state.
+     * Sets the query parameters.
      *
-     * @throws IllegalArgumentException in case of bad-formed parameter
+     * @return {@code false} if a strict parser found a malformed parameter,
+     *         {@code true} otherwise
      */
-    private void parseQueries() {
-        var queriesStartIndex = unProcessedInput.indexOf(QUERIES_START);
-        if (queriesStartIndex == -1) {
-            return;
+    private boolean setQueries() {
+        if (!present(QUERY)) {
+            return true;
         }
-
-        var queriesString = unProcessedInput.substring(queriesStartIndex + 1);
-        unProcessedInput = unProcessedInput.substring(0, queriesStartIndex);
-
-        Iterable<String> queries = querySplitter.split(queriesString);
-        for (var query : queries) {
-            var param = UrlQueryParameters.parse(query);
-            record.addQuery(param);
+        var lenient = mode == Mode.LENIENT;
+        var end = offsets[QUERY + 1];
+        var start = offsets[QUERY];
+        while (true) {
+            var separator = originalUrl.indexOf(QUERY_SEPARATOR, start);
+            var paramEnd = separator == -1 || separator > end ? end : separator;
+            param.clear();
+            var parsed = UrlQueryParameters.parse(originalUrl, start, paramEnd, param, lenient);
+            if (parsed == null) {
+                errorStart = start;
+                errorEnd = paramEnd;
+                return false;
+            }
+            record.addQuery(parsed);
+            if (paramEnd == end) {
+                return true;
+            }
+            start = paramEnd + 1;
         }
     }
 
-    /** Parses the URL resource path from the remaining part of URL. */
-    private void parsePath() {
-        if (unProcessedInput.isEmpty()) {
-            return;
+    /** Sets the fragment, if the URL has it. */
+    private void setFragment() {
+        if (present(FRAGMENT)) {
+            record.setFragment(component(FRAGMENT));
         }
-        record.setPath(unProcessedInput);
-        unProcessedInput = "";
+    }
+
+    private boolean present(int component) {
+        return offsets[component] != -1;
+    }
+
+    private boolean nonEmpty(int component) {
+        return present(component) && offsets[component] < offsets[component + 1];
+    }
+
+    private String component(int component) {
+        return originalUrl.substring(offsets[component], offsets[component + 1]);
+    }
+
+    /**
+     * Defines how a parser treats malformed query parameters.
+     */
+    public enum Mode {
+
+        /**
+         * A query parameter without the {@code '='} separator is treated as a key with
+         * an empty value.
+         */
+        LENIENT,
+
+        /**
+         * A query parameter without the {@code '='} separator fails the parsing.
+         */
+        STRICT
     }
 }
@@ -26,8 +26,6 @@
 
 package io.spine.net;
 
-import java.util.Locale;
-
 /**
  * Performs conversion of URLs to String.
  */
@@ -40,8 +38,7 @@ final class UrlPrinter {
      * Converts {@link Uri} to String.
      */
     static String printToString(Uri url) {
-        // We don't know the capacity at this point
-        @SuppressWarnings("StringBufferWithoutInitialCapacity") var sb = new StringBuilder();
+        var sb = new StringBuilder(estimateLength(url));
 
         appendProtocol(url, sb);
         appendAuth(url, sb);
@@ -54,6 +51,35 @@ final class UrlPrinter {
         return sb.toString();
     }
 
+    /**
+     * Calculates the length of the string form of the URL.
+     *
+     * <p>The result may slightly exceed the exact length since delimiters are counted
+     * even for empty components.
+     */
+    private static int estimateLength(Uri record) {
+        var result = UrlParser.PROTOCOL_ENDING.length();
+        var protocol = record.getProtocol();
+        if (protocol.getProtocolCase() == Uri.Protocol.ProtocolCase.NAME) {
+            result += protocol.getName()
+                              .length();
+        } else {
+            result += Schemas.nameOf(protocol.getSchema())
+                             .length();
+        }
+        var auth = record.getAuth();
+        result += auth.getUserName().length() + auth.getPassword().length() + 2;
+        result += record.getHost().length();
+        result += record.getPort().length() + 1;
+        result += record.getPath().length() + 1;
+        for (var i = 0; i < record.getQueryCount(); i++) {
+            var query = record.getQuery(i);
+            result += query.getKey().length() + query.getValue().length() + 2;
+        }
+        result += record.getFragment().length() + 1;
+        return result;
+    }
+
     private static void appendProtocol(Uri record, StringBuilder sb) {
         if (!record.hasProtocol()) {
             return;
@@ -66,21 +92,25 @@ final class UrlPrinter {
             return;
         }
 
-        sb.append(protocol.getSchema()
-                          .name()
-                          .toLowerCase(Locale.ENGLISH))
+        var schema = protocol.getSchema();
+        if (schema == Uri.Schema.UNDEFINED) {
+            return;
+        }
+        sb.append(Schemas.nameOf(schema))
           .append(UrlParser.PROTOCOL_ENDING);
     }
 
     private static void appendAuth(Uri record, StringBuilder sb) {
-        if (!record.hasAuth() || record.getAuth()
-                                       .equals(Uri.Authorization.getDefaultInstance())) {
+        if (!record.hasAuth()) {
             return;
         }
 
         var auth = record.getAuth();
         var userName = auth.getUserName();
         var password = auth.getPassword();
+        if (userName.isEmpty() && password.isEmpty()) {
+            return;
+        }
 
         sb.append(userName);
 
@@ -117,21 +147,19 @@ final class UrlPrinter {
     }
 
     private static void appendQueries(Uri record, StringBuilder sb) {
-        var queryList = record.getQueryList();
+        var queriesSize = record.getQueryCount();
 
-        if (queryList.isEmpty()) {
+        if (queriesSize == 0) {
             return;
         }
 
         sb.append(UrlParser.QUERIES_START);
 
-        var queriesSize = queryList.size();
         for (var i = 0; i < queriesSize; i++) {
-            var stringQuery = UrlQueryParameters.toString(queryList.get(i));
-            sb.append(stringQuery);
-            if (i != queriesSize - 1) {
+            if (i != 0) {
                 sb.append(UrlParser.QUERY_SEPARATOR);
             }
+            UrlQueryParameters.appendTo(record.getQuery(i), sb);
         }
     }
 
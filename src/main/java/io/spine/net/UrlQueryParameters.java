@@ -27,6 +27,7 @@
 package io.spine.net;
 
 import io.spine.net.Uri.QueryParameter;
+import org.jspecify.annotations.Nullable;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -38,6 +39,7 @@ import static io.spine.util.Exceptions.newIllegalArgumentException;
 final class UrlQueryParameters {
 
     private static final char SEPARATOR = '=';
+    private static final String INVALID_PARAMETER = "Query Parameter is invalid: %s";
 
     /** Prevent instantiation of this utility class. */
     private UrlQueryParameters() {
@@ -53,22 +55,85 @@ final class UrlQueryParameters {
      *         in case of non-well-formed argument value
      */
     public static QueryParameter parse(String queryParameter) {
-        var separatorIndex = queryParameter.indexOf(SEPARATOR);
+        var result = parse(queryParameter, 0, queryParameter.length(),
+                           QueryParameter.newBuilder(), false);
+        if (result == null) {
+            throw invalidParameter(queryParameter, 0, queryParameter.length());
+        }
+        return result;
+    }
+
+    /**
+     * Performs parsing of {@link QueryParameter} from the region of the given String.
+     *
+     * <p>Only the key and the value of the parameter are copied from the string.
+     *
+     * @param input
+     *         the string containing the query parameter
+     * @param start
+     *         the index of the first character of the parameter
+     * @param end
+     *         the index after the last character of the parameter
+     * @param builder
+     *         the empty builder to use for creating the parameter
+     * @param lenient
+     *         if {@code true}, a parameter without the separator is treated as a key with
+     *         an empty value
+     * @return parsed instance or {@code null} if the parameter is not well-formed
+     */
+    static @Nullable QueryParameter parse(String input, int start, int end,
+                                          QueryParameter.Builder builder, boolean lenient) {
+        var separatorIndex = start;
+        while (separatorIndex < end && input.charAt(separatorIndex) != SEPARATOR) {
+            separatorIndex++;
+        }
+        var valueStart = separatorIndex + 1;
 
-        if (separatorIndex == -1) {
-            throw newIllegalArgumentException("Query Parameter is invalid: %s", queryParameter);
+        if (separatorIndex == end) {
+            if (!lenient) {
+                return null;
+            }
+            valueStart = end;
         }
 
-        var key = queryParameter.substring(0, separatorIndex);
-        var value = queryParameter.substring(separatorIndex + 1);
+        var key = input.substring(start, separatorIndex);
+        var value = input.substring(valueStart, end);
 
-        var result = QueryParameter.newBuilder()
+        var result = builder
                 .setKey(key)
                 .setValue(value)
                 .build();
         return result;
     }
 
+    /**
+     * Creates an exception reporting a malformed query parameter.
+     *
+     * @param input
+     *         the string containing the query parameter
+     * @param start
+     *         the index of the first character of the parameter
+     * @param end
+     *         the index after the last character of the parameter
+     */
+    static IllegalArgumentException invalidParameter(String input, int start, int end) {
+        return newIllegalArgumentException(INVALID_PARAMETER, input.substring(start, end));
+    }
+
+    /**
+     * Describes a malformed query parameter.
+     *
+     * @param input
+     *         the string containing the query parameter
+     * @param start
+     *         the index of the first character of the parameter
+     * @param end
+     *         the index after the last character of the parameter
+     */
+    static String errorMessage(String input, int start, int end) {
+        return String.format(INVALID_PARAMETER, input.substring(start, end));
+    }
+
     /**
      * Builds {@link QueryParameter} from given key-value pair.
      *
@@ -104,4 +169,18 @@ final class UrlQueryParameters {
         var result = param.getKey() + SEPARATOR + param.getValue();
         return result;
     }
+
+    /**
+     * Appends the {@code key=value} form of {@link QueryParameter} to the given builder.
+     *
+     * @param param
+     *         {@link QueryParameter} instance
+     * @param sb
+     *         the builder to append to
+     */
+    static void appendTo(QueryParameter param, StringBuilder sb) {
+        sb.append(param.getKey())
+          .append(SEPARATOR)
+          .append(param.getValue());
+    }
 }
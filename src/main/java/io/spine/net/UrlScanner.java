@@ -0,0 +1,263 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import static io.spine.net.UrlParser.CREDENTIALS_ENDING;
+import static io.spine.net.UrlParser.FRAGMENT_START;
+import static io.spine.net.UrlParser.HOST_ENDING;
+import static io.spine.net.UrlParser.HOST_PORT_SEPARATOR;
+import static io.spine.net.UrlParser.QUERIES_START;
+
+/**
+ * Finds boundaries of URL components in a single left-to-right pass.
+ *
+ * <p>The scanner is fed with characters one by one and remembers only the positions of
+ * the delimiters which may become component boundaries. When the input ends,
+ * the positions are resolved into a table of offsets, one pair per component.
+ *
+ * <p>The grammar is the one {@link UrlParser} always used:
+ * <ol>
+ *     <li>the protocol ends at the first {@code "://"} of the URL;
+ *     <li>the credentials end at the first {@code '@'} after the protocol;
+ *     <li>the fragment starts after the last {@code '#'} after the credentials;
+ *     <li>the queries start after the first {@code '?'} before the fragment;
+ *     <li>the host ends at the first {@code '/'} before the queries;
+ *     <li>the port starts after the first {@code ':'} of the host.
+ * </ol>
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize" /* which is dubious rule. */)
+final class UrlScanner {
+
+    static final int PROTOCOL = 0;
+    static final int USER_NAME = 2;
+    static final int PASSWORD = 4;
+    static final int HOST = 6;
+    static final int PORT = 8;
+    static final int PATH = 10;
+    static final int QUERY = 12;
+    static final int FRAGMENT = 14;
+
+    /**
+     * The size of a table of component offsets.
+     *
+     * <p>A component occupies two cells: the start offset at the index of the component and
+     * the end offset right after it. Both offsets are {@code -1} if the component is absent.
+     */
+    static final int TABLE_SIZE = 16;
+
+    private static final int ABSENT = -1;
+
+    /** The number of characters consumed so far. */
+    private int position;
+
+    /** The number of characters of {@code "://"} matched at the current position. */
+    private int protocolEndingMatch;
+    private int protocolEnd;
+    private int credentialsEnd;
+    private int credentialsSeparator;
+    private int firstColon;
+    private int firstSlash;
+    private int firstQuestionMark;
+    private int lastHash;
+
+    UrlScanner() {
+        reset();
+    }
+
+    /**
+     * Scans the passed URL and writes the offsets of its components into the given table.
+     *
+     * @param url
+     *         the URL to scan
+     * @param table
+     *         the table of at least {@link #TABLE_SIZE} cells to fill
+     */
+    static void scan(CharSequence url, int[] table) {
+        var scanner = new UrlScanner();
+        scanner.accept(url, 0, url.length());
+        scanner.finish(table);
+    }
+
+    /** Prepares the scanner for a new input. */
+    void reset() {
+        position = 0;
+        protocolEndingMatch = 0;
+        protocolEnd = ABSENT;
+        resetAuthority();
+    }
+
+    private void resetAuthority() {
+        credentialsEnd = ABSENT;
+        credentialsSeparator = ABSENT;
+        resetHost();
+    }
+
+    private void resetHost() {
+        firstColon = ABSENT;
+        firstSlash = ABSENT;
+        firstQuestionMark = ABSENT;
+        lastHash = ABSENT;
+    }
+
+    /**
+     * Consumes the characters of the given region of the input.
+     */
+    void accept(CharSequence input, int start, int end) {
+        for (var i = start; i < end; i++) {
+            accept(input.charAt(i));
+        }
+    }
+
+    /**
+     * Consumes the characters of the given region of the array.
+     */
+    void accept(char[] input, int start, int end) {
+        for (var i = start; i < end; i++) {
+            accept(input[i]);
+        }
+    }
+
+    /**
+     * Consumes the next character of the input.
+     */
+    void accept(char c) {
+        var index = position++;
+        switch (c) {
+            case CREDENTIALS_ENDING:
+                if (credentialsEnd == ABSENT) {
+                    credentialsSeparator = firstColon;
+                    resetHost();
+                    credentialsEnd = index;
+                }
+                break;
+            case HOST_PORT_SEPARATOR:
+                if (firstColon == ABSENT) {
+                    firstColon = index;
+                }
+                break;
+            case HOST_ENDING:
+                if (firstSlash == ABSENT) {
+                    firstSlash = index;
+                }
+                break;
+            case QUERIES_START:
+                if (firstQuestionMark == ABSENT) {
+                    firstQuestionMark = index;
+                }
+                break;
+            case FRAGMENT_START:
+                lastHash = index;
+                break;
+            default:
+                break;
+        }
+        if (protocolEnd == ABSENT) {
+            matchProtocolEnding(c, index);
+        }
+    }
+
+    private void matchProtocolEnding(char c, int index) {
+        if (c == ':') {
+            protocolEndingMatch = 1;
+        } else if (c == '/' && protocolEndingMatch > 0) {
+            protocolEndingMatch++;
+            if (protocolEndingMatch == UrlParser.PROTOCOL_ENDING.length()) {
+                protocolEnd = index - 2;
+                resetAuthority();
+            }
+        } else {
+            protocolEndingMatch = 0;
+        }
+    }
+
+    /**
+     * Resolves the remembered positions into offsets of the URL components.
+     *
+     * @param table
+     *         the table of at least {@link #TABLE_SIZE} cells to fill
+     */
+    void finish(int[] table) {
+        var end = position;
+        var authorityStart = 0;
+        if (protocolEnd == ABSENT) {
+            set(table, PROTOCOL, ABSENT, ABSENT);
+        } else {
+            set(table, PROTOCOL, 0, protocolEnd);
+            authorityStart = protocolEnd + UrlParser.PROTOCOL_ENDING.length();
+        }
+
+        var hostStart = authorityStart;
+        if (credentialsEnd == ABSENT) {
+            set(table, USER_NAME, ABSENT, ABSENT);
+            set(table, PASSWORD, ABSENT, ABSENT);
+        } else if (credentialsSeparator == ABSENT) {
+            set(table, USER_NAME, authorityStart, credentialsEnd);
+            set(table, PASSWORD, ABSENT, ABSENT);
+            hostStart = credentialsEnd + 1;
+        } else {
+            set(table, USER_NAME, authorityStart, credentialsSeparator);
+            set(table, PASSWORD, credentialsSeparator + 1, credentialsEnd);
+            hostStart = credentialsEnd + 1;
+        }
+
+        var rest = end;
+        if (lastHash == ABSENT) {
+            set(table, FRAGMENT, ABSENT, ABSENT);
+        } else {
+            set(table, FRAGMENT, lastHash + 1, end);
+            rest = lastHash;
+        }
+
+        if (firstQuestionMark != ABSENT && firstQuestionMark < rest) {
+            set(table, QUERY, firstQuestionMark + 1, rest);
+            rest = firstQuestionMark;
+        } else {
+            set(table, QUERY, ABSENT, ABSENT);
+        }
+
+        var hostEnd = rest;
+        if (firstSlash != ABSENT && firstSlash < rest) {
+            set(table, PATH, firstSlash + 1, rest);
+            hostEnd = firstSlash;
+        } else {
+            set(table, PATH, ABSENT, ABSENT);
+        }
+
+        if (firstColon != ABSENT && firstColon < hostEnd) {
+            set(table, PORT, firstColon + 1, hostEnd);
+            hostEnd = firstColon;
+        } else {
+            set(table, PORT, ABSENT, ABSENT);
+        }
+        set(table, HOST, hostStart, hostEnd);
+    }
+
+    private static void set(int[] table, int component, int start, int end) {
+        table[component] = start;
+        table[component + 1] = end;
+    }
+}
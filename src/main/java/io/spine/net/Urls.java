@@ -26,8 +26,14 @@
 
 package io.spine.net;
 
+import com.google.common.collect.ImmutableList;
 import io.spine.net.string.NetStringifiers;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Objects.requireNonNull;
@@ -39,6 +45,11 @@ import static java.util.Objects.requireNonNull;
  */
 public final class Urls {
 
+    /**
+     * The number of URLs below which a batch is parsed by a single worker.
+     */
+    private static final int BATCH_THRESHOLD = 1024;
+
     /** Prevent instantiation of this utility class. */
     private Urls() {
     }
@@ -71,4 +82,209 @@ public final class Urls {
         var result = NetStringifiers.forUrl().convert(url);
         return requireNonNull(result);
     }
+
+    /**
+     * Parses the passed URL into the structured form.
+     *
+     * <p>The parsing is {@linkplain UrlParser.Mode#LENIENT lenient}.
+     *
+     * @param url
+     *         the URL to parse
+     * @return the components of the URL
+     */
+    public static Uri parse(Url url) {
+        checkNotNull(url);
+        return parse(url.getSpec());
+    }
+
+    /**
+     * Parses the passed URL spec into the structured form.
+     *
+     * <p>The parsing is {@linkplain UrlParser.Mode#LENIENT lenient}.
+     *
+     * @param spec
+     *         the URL to parse
+     * @return the components of the URL
+     */
+    public static Uri parse(String spec) {
+        checkNotNull(spec);
+        var result = UrlParser.forCurrentThread()
+                              .parse(spec);
+        return result;
+    }
+
+    /**
+     * Creates a new {@code Url} with the components of the passed {@code Uri}.
+     *
+     * @param uri
+     *         the components of the URL
+     * @return new instance
+     */
+    public static Url of(Uri uri) {
+        checkNotNull(uri);
+        var result = Url.newBuilder()
+                .setSpec(UrlPrinter.printToString(uri))
+                .build();
+        return result;
+    }
+
+    /**
+     * Performs String conversion for the passed structured URL.
+     *
+     * @param uri
+     *         a value to convert to string
+     * @return String representation of the given URL
+     */
+    public static String toString(Uri uri) {
+        checkNotNull(uri);
+        var result = UrlPrinter.printToString(uri);
+        return result;
+    }
+
+    /**
+     * Leniently parses the passed URL specs using
+     * the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #parseAll(List, UrlParser.Mode, ForkJoinPool)
+     */
+    public static ImmutableList<ParsedUrl> parseAll(List<String> specs) {
+        return parseAll(specs, UrlParser.Mode.LENIENT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Leniently parses the passed URL specs in parallel.
+     *
+     * @see #parseAll(List, UrlParser.Mode, ForkJoinPool)
+     */
+    public static ImmutableList<ParsedUrl> parseAll(List<String> specs, ForkJoinPool pool) {
+        return parseAll(specs, UrlParser.Mode.LENIENT, pool);
+    }
+
+    /**
+     * Parses the passed URL specs in the given mode using
+     * the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #parseAll(List, UrlParser.Mode, ForkJoinPool)
+     */
+    public static ImmutableList<ParsedUrl> parseAll(List<String> specs, UrlParser.Mode mode) {
+        return parseAll(specs, mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses the passed URL specs in parallel.
+     *
+     * <p>The specs are copied to an array, which is split between the workers of the given
+     * pool. Each worker uses its {@linkplain UrlParser#forCurrentThread(UrlParser.Mode) own
+     * parser}.
+     *
+     * <p>A URL which cannot be parsed by a {@linkplain UrlParser.Mode#STRICT strict} parser
+     * does not stop the processing. Instead, its result holds the error.
+     *
+     * @param specs
+     *         the URLs to parse
+     * @param mode
+     *         the mode of parsing
+     * @param pool
+     *         the pool to run the parsing
+     * @return the results of parsing in the order of the passed specs
+     */
+    public static ImmutableList<ParsedUrl> parseAll(List<String> specs, UrlParser.Mode mode,
+                                                    ForkJoinPool pool) {
+        checkNotNull(specs);
+        checkNotNull(mode);
+        checkNotNull(pool);
+        var input = specs.toArray(new String[0]);
+        var results = new ParsedUrl[input.length];
+        pool.invoke(new ParseTask(input, mode, results, 0, results.length));
+        return ImmutableList.copyOf(results);
+    }
+
+    /**
+     * Leniently parses the URL specs supplied by the passed stream.
+     *
+     * @see #parseAll(Stream, UrlParser.Mode)
+     */
+    public static Stream<ParsedUrl> parseAll(Stream<String> specs) {
+        return parseAll(specs, UrlParser.Mode.LENIENT);
+    }
+
+    /**
+     * Parses the URL specs supplied by the passed stream in the given mode.
+     *
+     * <p>The returned stream preserves the encounter order of the passed one. If the passed
+     * stream is parallel, each worker uses its
+     * {@linkplain UrlParser#forCurrentThread(UrlParser.Mode) own parser}.
+     *
+     * <p>A URL which cannot be parsed by a {@linkplain UrlParser.Mode#STRICT strict} parser
+     * does not stop the processing. Instead, its result holds the error.
+     *
+     * @param specs
+     *         the URLs to parse
+     * @param mode
+     *         the mode of parsing
+     * @return the stream of parsing results
+     */
+    public static Stream<ParsedUrl> parseAll(Stream<String> specs, UrlParser.Mode mode) {
+        checkNotNull(specs);
+        checkNotNull(mode);
+        return specs.map(spec -> tryParse(spec, mode));
+    }
+
+    /**
+     * Strictly parses the passed URL spec reporting a failure as a value.
+     *
+     * @param spec
+     *         the URL to parse
+     * @return the components of the URL or the error, if the URL contains a malformed
+     *         query parameter
+     * @see UrlParser.Mode#STRICT
+     */
+    public static ParsedUrl tryParse(String spec) {
+        return tryParse(spec, UrlParser.Mode.STRICT);
+    }
+
+    private static ParsedUrl tryParse(String spec, UrlParser.Mode mode) {
+        checkNotNull(spec);
+        var result = UrlParser.forCurrentThread(mode)
+                              .tryParse(spec);
+        return result;
+    }
+
+    /**
+     * Parses a range of URL specs, splitting it in halves while it is big enough.
+     */
+    @SuppressWarnings("PMD.BeanMembersShouldSerialize" /* which is dubious rule. */)
+    private static final class ParseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 0L;
+
+        private final String[] specs;
+        private final UrlParser.Mode mode;
+        private final ParsedUrl[] results;
+        private final int start;
+        private final int end;
+
+        private ParseTask(String[] specs, UrlParser.Mode mode,
+                          ParsedUrl[] results, int start, int end) {
+            super();
+            this.specs = specs;
+            this.mode = mode;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= BATCH_THRESHOLD) {
+                for (var i = start; i < end; i++) {
+                    results[i] = tryParse(specs[i], mode);
+                }
+                return;
+            }
+            var middle = (start + end) >>> 1;
+            invokeAll(new ParseTask(specs, mode, results, start, middle),
+                      new ParseTask(specs, mode, results, middle, end));
+        }
+    }
 }
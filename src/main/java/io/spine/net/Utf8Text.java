@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import java.nio.ByteBuffer;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * The characters of a region of UTF-8 bytes.
+ *
+ * <p>If the bytes are all ASCII, which is usual for logs, the characters are read straight from
+ * the bytes, so nothing is copied. Otherwise, the bytes are decoded once into an array of
+ * characters in the same way as by the {@linkplain java.nio.charset.StandardCharsets#UTF_8
+ * standard decoder}, which decodes malformed sequences to {@code U+FFFD}.
+ *
+ * <p>The text tells the offsets of the bytes which its characters are decoded from. As they are
+ * obtained in the ascending order of the characters, they are computed by walking the bytes
+ * forward, instead of being stored for every character.
+ */
+final class Utf8Text implements CharSequence {
+
+    private static final char REPLACEMENT = '\uFFFD';
+    private static final long NON_ASCII_BITS = 0x8080_8080_8080_8080L;
+
+    private final ByteBuffer bytes;
+    private final char[] chars;
+    private final int length;
+
+    /** The index of the last character whose byte offset was obtained. */
+    private int charCursor;
+
+    /** The offset of the byte which the character at the {@link #charCursor} starts at. */
+    private int byteCursor;
+
+    private Utf8Text(ByteBuffer bytes, char[] chars, int length) {
+        this.bytes = bytes;
+        this.chars = chars;
+        this.length = length;
+    }
+
+    /**
+     * Creates the text of the remaining bytes of the given buffer.
+     *
+     * <p>The buffer must not be modified while the text is used.
+     */
+    static Utf8Text of(ByteBuffer buffer) {
+        var bytes = buffer.slice();
+        if (isAscii(bytes)) {
+            return new Utf8Text(bytes, null, bytes.limit());
+        }
+        var chars = new char[bytes.limit()];
+        var length = 0;
+        for (var i = 0; i < bytes.limit(); ) {
+            var sequence = sequenceLength(bytes, i);
+            length = decode(bytes, i, sequence, chars, length);
+            i += Math.abs(sequence);
+        }
+        return new Utf8Text(bytes, chars, length);
+    }
+
+    /**
+     * Obtains the offset of the byte which the character at the given index is decoded from.
+     *
+     * @param index
+     *         the index of a character, or the length of the text; must not be less than
+     *         the index passed to the previous call
+     */
+    int byteOffset(int index) {
+        if (chars == null) {
+            return index;
+        }
+        checkState(index >= charCursor, "Byte offsets must be obtained in ascending order.");
+        while (charCursor < index) {
+            var sequence = sequenceLength(bytes, byteCursor);
+            var decoded = sequence == 4 ? 2 : 1;
+            if (charCursor + decoded > index) {
+                break;
+            }
+            charCursor += decoded;
+            byteCursor += Math.abs(sequence);
+        }
+        return byteCursor;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (chars == null) {
+            return (char) bytes.get(index);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (chars == null) {
+            var result = new byte[end - start];
+            bytes.get(start, result);
+            return new String(result, US_ASCII);
+        }
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+
+    private static boolean isAscii(ByteBuffer bytes) {
+        var limit = bytes.limit();
+        var i = 0;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            if ((bytes.getLong(i) & NON_ASCII_BITS) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtains the number of bytes in the UTF-8 sequence starting at the given offset.
+     *
+     * <p>A malformed sequence is the longest prefix of a well-formed one, but at least one
+     * byte, or an encoded surrogate. It is decoded to a single {@code U+FFFD}, as it is done
+     * by the {@linkplain java.nio.charset.StandardCharsets#UTF_8 standard decoder}.
+     *
+     * @return the number of bytes in the sequence, negated if the sequence is malformed
+     */
+    private static int sequenceLength(ByteBuffer bytes, int offset) {
+        var first = bytes.get(offset) & 0xFF;
+        if (first < 0x80) {
+            return 1;
+        }
+        int length;
+        var min = 0x80;
+        var max = 0xBF;
+        if (first >= 0xC2 && first <= 0xDF) {
+            length = 2;
+        } else if (first >= 0xE0 && first <= 0xEF) {
+            length = 3;
+            min = first == 0xE0 ? 0xA0 : min;
+        } else if (first >= 0xF0 && first <= 0xF4) {
+            length = 4;
+            min = first == 0xF0 ? 0x90 : min;
+            max = first == 0xF4 ? 0x8F : max;
+        } else {
+            return -1;
+        }
+        var read = 1;
+        if (continues(bytes, offset + 1, min, max)) {
+            read++;
+            while (read < length && continues(bytes, offset + read, 0x80, 0xBF)) {
+                read++;
+            }
+        }
+        if (read < length) {
+            return -read;
+        }
+        if (first == 0xED && (bytes.get(offset + 1) & 0xFF) >= 0xA0) {
+            return -length;
+        }
+        return length;
+    }
+
+    private static boolean continues(ByteBuffer bytes, int offset, int min, int max) {
+        if (offset >= bytes.limit()) {
+            return false;
+        }
+        var value = bytes.get(offset) & 0xFF;
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Decodes the sequence of the given length into the characters.
+     *
+     * <p>A malformed sequence, whose length is negative, is decoded to {@code U+FFFD}.
+     *
+     * @return the index after the decoded characters
+     */
+    private static int decode(ByteBuffer bytes, int offset, int sequence,
+                              char[] target, int index) {
+        var first = bytes.get(offset) & 0xFF;
+        if (sequence < 0) {
+            target[index] = REPLACEMENT;
+            return index + 1;
+        }
+        switch (sequence) {
+            case 1:
+                target[index] = (char) first;
+                return index + 1;
+            case 2:
+                target[index] = (char) (((first & 0x1F) << 6) | continuation(bytes, offset + 1));
+                return index + 1;
+            case 3:
+                target[index] = (char) (((first & 0x0F) << 12)
+                        | (continuation(bytes, offset + 1) << 6)
+                        | continuation(bytes, offset + 2));
+                return index + 1;
+            default:
+                var codePoint = ((first & 0x07) << 18)
+                        | (continuation(bytes, offset + 1) << 12)
+                        | (continuation(bytes, offset + 2) << 6)
+                        | continuation(bytes, offset + 3);
+                return index + Character.toChars(codePoint, target, index);
+        }
+    }
+
+    private static int continuation(ByteBuffer bytes, int offset) {
+        return bytes.get(offset) & 0x3F;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of the results of validating strings, such as domain names or email
+ * addresses.
+ *
+ * <p>The cache is opt-in: callers who validate the same values over and over, such as
+ * the hosts and sender domains dominating the traffic of a server, may keep an instance and
+ * validate through it instead of calling {@link InternetDomains#isValid(String)} or
+ * {@link EmailAddresses#isValid(String)} directly.
+ *
+ * <p>A hit costs computing the hash code of the value, unless the {@code String} has it
+ * cached, and comparing the value with the cached one. As the validation of domain names and
+ * email addresses is a single pass over the characters too, the cache pays off mostly for
+ * long values, for values which are the same {@code String} instances, and for costlier
+ * checks passed to {@link #of(Predicate, int)}. The hit and miss counters help to decide if
+ * the cache is worth keeping.
+ *
+ * <p>The cache keeps at most its {@linkplain #capacity() capacity} of results and evicts the
+ * ones not used recently. It is safe to use from many threads without locking.
+ */
+public final class ValidationCache {
+
+    private final ClockCache<String, Boolean> results;
+
+    private ValidationCache(Predicate<String> check, int capacity) {
+        this.results = new ClockCache<>(capacity, check::test);
+    }
+
+    /**
+     * Creates a cache of the results of {@link InternetDomains#isValid(String)}.
+     *
+     * @param capacity
+     *         the maximum number of the cached results, rounded up to a power of two
+     *         of at least 4
+     * @throws IllegalArgumentException
+     *         if the capacity is not positive
+     */
+    public static ValidationCache forDomains(int capacity) {
+        return new ValidationCache(InternetDomains::isValid, capacity);
+    }
+
+    /**
+     * Creates a cache of the results of {@link EmailAddresses#isValid(String)}.
+     *
+     * @param capacity
+     *         the maximum number of the cached results, rounded up to a power of two
+     *         of at least 4
+     * @throws IllegalArgumentException
+     *         if the capacity is not positive
+     */
+    public static ValidationCache forEmailAddresses(int capacity) {
+        return new ValidationCache(EmailAddresses::isValid, capacity);
+    }
+
+    /**
+     * Creates a cache of the results of the given check.
+     *
+     * <p>The check must always give the same result for the same value.
+     *
+     * @param check
+     *         the check to run for the values missing in the cache
+     * @param capacity
+     *         the maximum number of the cached results, rounded up to a power of two
+     *         of at least 4
+     * @throws IllegalArgumentException
+     *         if the capacity is not positive
+     */
+    public static ValidationCache of(Predicate<String> check, int capacity) {
+        checkNotNull(check);
+        return new ValidationCache(check, capacity);
+    }
+
+    /**
+     * Tells if the value is valid, running the check only if the result is not cached.
+     */
+    public boolean isValid(String value) {
+        checkNotNull(value);
+        boolean result = results.get(value);
+        return result;
+    }
+
+    /**
+     * Obtains the number of the calls to {@link #isValid(String)} which found the result
+     * in the cache.
+     */
+    public long hitCount() {
+        return results.hitCount();
+    }
+
+    /**
+     * Obtains the number of the calls to {@link #isValid(String)} which ran the check.
+     */
+    public long missCount() {
+        return results.missCount();
+    }
+
+    /**
+     * Obtains the maximum number of the results kept in the cache.
+     */
+    public int capacity() {
+        return results.capacity();
+    }
+}
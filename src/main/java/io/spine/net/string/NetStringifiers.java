@@ -28,6 +28,8 @@ package io.spine.net.string;
 
 import io.spine.net.EmailAddress;
 import io.spine.net.InternetDomain;
+import io.spine.net.IpAddress;
+import io.spine.net.Uri;
 import io.spine.net.Url;
 import io.spine.string.Stringifier;
 import io.spine.string.StringifierRegistry;
@@ -40,8 +42,10 @@ public final class NetStringifiers {
     static {
         StringifierRegistry.instance().register(
                 forUrl(),
+                forUri(),
                 forEmailAddress(),
-                forInternetDomain()
+                forInternetDomain(),
+                forIpAddress()
         );
     }
 
@@ -54,6 +58,11 @@ public final class NetStringifiers {
         return UrlStringifier.getInstance();
     }
 
+    /** Obtains default stringifier for {@code Uri}. */
+    public static Stringifier<Uri> forUri() {
+        return UriStringifier.getInstance();
+    }
+
     /** Obtains default stringifier for {@code EmailAddress}. */
     public static Stringifier<EmailAddress> forEmailAddress() {
         return EmailAddressStringifier.getInstance();
@@ -63,4 +72,9 @@ public final class NetStringifiers {
     public static Stringifier<InternetDomain> forInternetDomain() {
         return InternetDomainStringifier.getInstance();
     }
+
+    /** Obtains default stringifier for {@code IpAddress}. */
+    public static Stringifier<IpAddress> forIpAddress() {
+        return IpAddressStringifier.getInstance();
+    }
 }
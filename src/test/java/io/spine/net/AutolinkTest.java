@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.net.Autolink.Kind.EMAIL_ADDRESS;
+import static io.spine.net.Autolink.Kind.URL;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`Autolink` should")
+class AutolinkTest {
+
+    private static final String TEXT = "Mail info@spine.io or visit spine.io/docs";
+
+    private static final Autolink email = Autolink.of(EMAIL_ADDRESS, 5, 18, TEXT, 5);
+    private static final Autolink url = Autolink.of(URL, 28, 41, TEXT, 28);
+
+    @Test
+    @DisplayName("obtain the characters of the link")
+    void value() {
+        assertThat(email.value()).isEqualTo("info@spine.io");
+        assertThat(email.length()).isEqualTo(13);
+        assertThat(url.value()).isEqualTo("spine.io/docs");
+    }
+
+    @Test
+    @DisplayName("create a URL")
+    void toUrl() {
+        assertThat(url.toUrl().getSpec()).isEqualTo("spine.io/docs");
+    }
+
+    @Test
+    @DisplayName("create an email address")
+    void toEmailAddress() {
+        assertThat(email.toEmailAddress().getValue()).isEqualTo("info@spine.io");
+    }
+
+    @Test
+    @DisplayName("not create a value of another kind")
+    void otherKind() {
+        assertThrows(IllegalStateException.class, email::toUrl);
+        assertThrows(IllegalStateException.class, url::toEmailAddress);
+    }
+
+    @Test
+    @DisplayName("be equal to a link of the same kind, position and value")
+    void equality() {
+        var copy = Autolink.of(EMAIL_ADDRESS, 5, 18, "info@spine.io", 0);
+
+        assertThat(copy).isEqualTo(email);
+        assertThat(copy.hashCode()).isEqualTo(email.hashCode());
+        assertThat(Autolink.of(URL, 5, 18, TEXT, 5)).isNotEqualTo(email);
+        assertThat(url).isNotEqualTo(email);
+    }
+}
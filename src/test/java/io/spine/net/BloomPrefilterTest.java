@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.testing.Assertions.assertIllegalState;
+
+@DisplayName("`BloomPrefilter` should")
+class BloomPrefilterTest {
+
+    private static final int SIZE = 100_000;
+    private static final double RATE = 0.01;
+
+    @Test
+    @DisplayName("contain all added values")
+    void noFalseNegatives() {
+        var filter = filled();
+
+        for (var i = 0; i < SIZE; i++) {
+            assertThat(filter.mightContain(domain(i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("keep the false positive rate close to the requested one")
+    void falsePositiveRate() {
+        var filter = filled();
+        var positives = 0;
+        for (var i = SIZE; i < SIZE * 2; i++) {
+            if (filter.mightContain(domain(i))) {
+                positives++;
+            }
+        }
+
+        assertThat((double) positives / SIZE).isLessThan(RATE * 1.5);
+    }
+
+    @Test
+    @DisplayName("ignore the case of ASCII letters")
+    void ignoreCase() {
+        var filter = BloomPrefilter.create(10, RATE)
+                                   .put("User@Spine.IO");
+
+        assertThat(filter.mightContain("user@spine.io")).isTrue();
+    }
+
+    @Test
+    @DisplayName("accept domains and email addresses")
+    void netValues() {
+        var domain = InternetDomains.valueOf("spine.io");
+        var address = EmailAddresses.valueOf("jdoe@spine.io");
+        var filter = BloomPrefilter.create(10, RATE)
+                                   .put(domain)
+                                   .put(address);
+
+        assertThat(filter.mightContain(domain)).isTrue();
+        assertThat(filter.mightContain(address)).isTrue();
+        assertThat(filter.mightContain("spine.io")).isTrue();
+    }
+
+    @Test
+    @DisplayName("be sized by the expected size and the false positive rate")
+    void sizing() {
+        var filter = BloomPrefilter.create(1_000_000, RATE);
+
+        assertThat(filter.bitCount()).isAtLeast(9_585_059L);
+        assertThat(filter.bitCount()).isLessThan(9_585_059L + Long.SIZE);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("be mapped from the file it is written to")
+    void mapFromFile(@TempDir Path directory) {
+        var filter = filled();
+        var file = directory.resolve("filter.bin");
+
+        filter.writeTo(file);
+        var mapped = BloomPrefilter.map(file);
+
+        assertThat(mapped.bitCount()).isEqualTo(filter.bitCount());
+        assertThat(mapped.hashCount()).isEqualTo(filter.hashCount());
+        for (var i = 0; i < SIZE * 2; i++) {
+            var domain = domain(i);
+            assertThat(mapped.mightContain(domain)).isEqualTo(filter.mightContain(domain));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("not allow modifying a mapped filter")
+    void readOnly(@TempDir Path directory) {
+        var file = directory.resolve("filter.bin");
+        BloomPrefilter.create(10, RATE)
+                      .writeTo(file);
+
+        var mapped = BloomPrefilter.map(file);
+
+        assertIllegalState(() -> mapped.put("spine.io"));
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject files which do not hold a filter")
+    void rejectOtherFiles(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("other.bin");
+        Files.writeString(file, "Not a Bloom filter at all.");
+
+        assertIllegalArgument(() -> BloomPrefilter.map(file));
+        assertIllegalState(() -> BloomPrefilter.map(directory.resolve("missing.bin")));
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject invalid parameters")
+    void rejectParameters() {
+        assertIllegalArgument(() -> BloomPrefilter.create(0, RATE));
+        assertIllegalArgument(() -> BloomPrefilter.create(10, 0));
+        assertIllegalArgument(() -> BloomPrefilter.create(10, 1));
+        assertIllegalArgument(() -> BloomPrefilter.create(Long.MAX_VALUE / 2, RATE));
+    }
+
+    private static BloomPrefilter filled() {
+        var filter = BloomPrefilter.create(SIZE, RATE);
+        for (var i = 0; i < SIZE; i++) {
+            filter.put(domain(i));
+        }
+        return filter;
+    }
+
+    private static String domain(int index) {
+        return "host" + index + ".example.com";
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`CidrIndex` should")
+class CidrIndexTest {
+
+    private static final CidrIndex index = CidrIndex.of(ImmutableList.of(
+            "10.0.0.0/8",
+            "10.1.0.0/16",
+            "10.1.2.0/24",
+            "192.0.2.7/32",
+            "2001:db8::/32",
+            "2001:db8:1::/48",
+            "10.1.0.0/16"
+    ));
+
+    @Test
+    @DisplayName("find the longest IPv4 range containing an address")
+    void longestIpv4() {
+        assertThat(match("10.200.0.1")).isEqualTo(0);
+        assertThat(match("10.1.200.1")).isEqualTo(1);
+        assertThat(match("10.1.2.3")).isEqualTo(2);
+        assertThat(match("192.0.2.7")).isEqualTo(3);
+        assertThat(match("192.0.2.8")).isEqualTo(-1);
+        assertThat(match("11.0.0.0")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("find the longest IPv6 range containing an address")
+    void longestIpv6() {
+        assertThat(match("2001:db8::1")).isEqualTo(4);
+        assertThat(match("2001:db8:1:ffff::")).isEqualTo(5);
+        assertThat(match("2001:db9::")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("not match addresses of the other IP version")
+    void versions() {
+        assertThat(match("::ffff:10.0.0.1")).isEqualTo(-1);
+        assertThat(match("::a00:1")).isEqualTo(-1);
+        assertThat(CidrIndex.of(ImmutableList.of("::/0")).containsIpv4(0)).isFalse();
+        assertThat(CidrIndex.of(ImmutableList.of("0.0.0.0/0")).containsIpv6(0, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("keep the first of duplicate ranges")
+    void duplicates() {
+        assertThat(index.size()).isEqualTo(7);
+        assertThat(index.range(6)).isEqualTo(index.range(1));
+        assertThat(match("10.1.0.0")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tell if any range contains an address")
+    void contains() {
+        assertThat(index.contains(IpAddresses.valueOf("10.0.0.0"))).isTrue();
+        assertThat(index.contains(IpAddresses.valueOf("9.255.255.255"))).isFalse();
+        assertThat(index.containsIpv4(0x0A000001)).isTrue();
+        assertThat(index.containsIpv6(0x20010DB8_00000000L, 1L)).isTrue();
+        assertThat(CidrIndex.of(ImmutableList.of()).containsIpv4(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("match the same ranges as a linear scan")
+    void sameAsLinearScan() {
+        var random = new Random(42);
+        var ranges = new ArrayList<String>();
+        for (var i = 0; i < 2_000; i++) {
+            ranges.add(randomRange(random));
+        }
+        var index = CidrIndex.of(ranges);
+        var parsed = ranges.stream()
+                           .map(CidrRanges::valueOf)
+                           .collect(ImmutableList.toImmutableList());
+        for (var i = 0; i < 20_000; i++) {
+            var address = randomAddress(random);
+            var expected = -1;
+            var longest = -1;
+            for (var r = 0; r < parsed.size(); r++) {
+                var range = parsed.get(r);
+                if (range.getPrefixLength() > longest && CidrRanges.contains(range, address)) {
+                    expected = r;
+                    longest = range.getPrefixLength();
+                }
+            }
+            assertWithMessage(IpAddresses.toString(address))
+                    .that(index.match(address))
+                    .isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Creates a random range within a few narrow blocks of addresses, so that
+     * the ranges nest and overlap.
+     */
+    private static String randomRange(Random random) {
+        if (random.nextBoolean()) {
+            var length = 8 + random.nextInt(25);
+            var address = (0x0A000000 | random.nextInt(0x10000) << 8) & (int) (-1L << 32 - length);
+            return IpAddresses.toString(IpAddresses.ipv4(address)) + '/' + length;
+        }
+        var length = 16 + random.nextInt(113);
+        var high = 0x20010DB800000000L | (long) random.nextInt(0x10000) << 16;
+        var low = random.nextBoolean() ? 0L : random.nextLong();
+        high &= CidrRanges.prefixMask(length);
+        low &= CidrRanges.prefixMask(length - 64);
+        return IpAddresses.toString(IpAddresses.ipv6(high, low)) + '/' + length;
+    }
+
+    private static IpAddress randomAddress(Random random) {
+        if (random.nextBoolean()) {
+            return IpAddresses.ipv4(0x0A000000 | random.nextInt(0x1000000));
+        }
+        var high = 0x20010DB800000000L | (long) random.nextInt(0x10000) << 16;
+        return IpAddresses.ipv6(high, random.nextInt(4) == 0 ? 0L : random.nextLong());
+    }
+
+    @Test
+    @DisplayName("load ranges from a file")
+    void load(@TempDir Path dir) throws IOException {
+        var file = dir.resolve("ranges.txt");
+        Files.write(file, ImmutableList.of("# Partners", "", "192.0.2.0/24", " 2001:db8::/32 "),
+                    UTF_8);
+
+        var loaded = CidrIndex.load(file);
+
+        assertThat(loaded.size()).isEqualTo(2);
+        assertThat(loaded.matchIpv4(0xC0000201)).isEqualTo(0);
+        assertThat(loaded.range(1)).isEqualTo(CidrRanges.valueOf("2001:db8::/32"));
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject malformed ranges")
+    void reject() {
+        assertIllegalArgument(() -> CidrIndex.of(ImmutableList.of("10.0.0.1/8")));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.range(7));
+    }
+
+    private static int match(String address) {
+        return index.match(IpAddresses.valueOf(address));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`CidrRanges` utility class should")
+class CidrRangesTest extends UtilityClassTest<CidrRanges> {
+
+    CidrRangesTest() {
+        super(CidrRanges.class);
+    }
+
+    @Test
+    @DisplayName("parse IPv4 and IPv6 ranges")
+    void parse() {
+        var ipv4 = CidrRanges.valueOf("192.0.2.0/24");
+        var ipv6 = CidrRanges.valueOf("2001:db8::/32");
+
+        assertThat(ipv4.getAddress()).isEqualTo(IpAddresses.ipv4(0xC0000200));
+        assertThat(ipv4.getPrefixLength()).isEqualTo(24);
+        assertThat(ipv6.getAddress()).isEqualTo(IpAddresses.ipv6(0x20010DB800000000L, 0));
+        assertThat(ipv6.getPrefixLength()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("print ranges in the CIDR notation")
+    void print() {
+        assertRoundTrip("0.0.0.0/0");
+        assertRoundTrip("10.0.0.0/8");
+        assertRoundTrip("192.0.2.1/32");
+        assertRoundTrip("::/0");
+        assertRoundTrip("2001:db8::/32");
+        assertRoundTrip("2001:db8::1/128");
+        assertRoundTrip("2001:db8:0:0:8000::/65");
+    }
+
+    private static void assertRoundTrip(String range) {
+        assertThat(CidrRanges.toString(CidrRanges.valueOf(range))).isEqualTo(range);
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject malformed ranges")
+    void reject() {
+        var malformed = new String[]{
+                "192.0.2.0", "192.0.2.0/", "192.0.2.0/33", "192.0.2.0/024", "192.0.2.0/-1",
+                "192.0.2/24", "/24", "2001:db8::/129", "2001:db8::/x", "192.0.2.0/24/24"
+        };
+        for (var range : malformed) {
+            assertIllegalArgument(() -> CidrRanges.valueOf(range));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject ranges with bits set past the prefix")
+    void rejectHostBits() {
+        assertIllegalArgument(() -> CidrRanges.valueOf("192.0.2.1/24"));
+        assertIllegalArgument(() -> CidrRanges.valueOf("0.0.0.1/0"));
+        assertIllegalArgument(() -> CidrRanges.valueOf("2001:db8::1/64"));
+        assertIllegalArgument(() -> CidrRanges.valueOf("2001:db8::/16"));
+    }
+
+    @Test
+    @DisplayName("tell if a range contains an address")
+    void contains() {
+        var ipv4 = CidrRanges.valueOf("192.0.2.0/24");
+        var ipv6 = CidrRanges.valueOf("2001:db8::/96");
+
+        assertThat(CidrRanges.contains(ipv4, IpAddresses.valueOf("192.0.2.255"))).isTrue();
+        assertThat(CidrRanges.contains(ipv4, IpAddresses.valueOf("192.0.3.0"))).isFalse();
+        assertThat(CidrRanges.contains(ipv4, IpAddresses.valueOf("::ffff:192.0.2.1"))).isFalse();
+        assertThat(CidrRanges.contains(ipv6, IpAddresses.valueOf("2001:db8::ffff:ffff"))).isTrue();
+        assertThat(CidrRanges.contains(ipv6, IpAddresses.valueOf("2001:db8::1:0:0"))).isFalse();
+        assertThat(CidrRanges.contains(ipv6, IpAddresses.valueOf("192.0.2.1"))).isFalse();
+    }
+}
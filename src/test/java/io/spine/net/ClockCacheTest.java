@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`ClockCache` should")
+class ClockCacheTest {
+
+    @Test
+    @DisplayName("compute a value once and then return the cached one")
+    void cache() {
+        var computations = new AtomicInteger();
+        var cache = new ClockCache<String, Integer>(16, key -> {
+            computations.incrementAndGet();
+            return key.length();
+        });
+
+        assertThat(cache.get("spine")).isEqualTo(5);
+        assertThat(cache.get(new String("spine".toCharArray()))).isEqualTo(5);
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("round the capacity up to a power of two")
+    void capacity() {
+        assertThat(new ClockCache<String, String>(1, key -> key).capacity()).isEqualTo(4);
+        assertThat(new ClockCache<String, String>(4, key -> key).capacity()).isEqualTo(4);
+        assertThat(new ClockCache<String, String>(5, key -> key).capacity()).isEqualTo(8);
+        assertThat(new ClockCache<String, String>(1000, key -> key).capacity())
+                .isEqualTo(1024);
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject a capacity which is not positive")
+    void rejectCapacity() {
+        assertIllegalArgument(() -> new ClockCache<String, String>(0, key -> key));
+    }
+
+    @Test
+    @DisplayName("evict an entry not used recently")
+    void evict() {
+        var cache = new ClockCache<String, String>(4, String::toUpperCase);
+        for (var key : new String[]{"a", "b", "c", "d"}) {
+            cache.get(key);
+        }
+        cache.get("a");
+        cache.get("e");
+
+        var misses = cache.missCount();
+        cache.get("a");
+        assertThat(cache.missCount()).isEqualTo(misses);
+        cache.get("b");
+        assertThat(cache.missCount()).isEqualTo(misses + 1);
+    }
+
+    @Test
+    @DisplayName("return the computed values under concurrent access")
+    void concurrent() throws Exception {
+        var cache = new ClockCache<Integer, String>(64, String::valueOf);
+        var threads = 8;
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var tasks = new ArrayList<Callable<Boolean>>();
+            for (var t = 0; t < threads; t++) {
+                var seed = t;
+                tasks.add(() -> {
+                    for (var i = 0; i < 100_000; i++) {
+                        var key = (i * 31 + seed) % 200;
+                        if (!cache.get(key).equals(String.valueOf(key))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (var result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(threads * 100_000L);
+    }
+}
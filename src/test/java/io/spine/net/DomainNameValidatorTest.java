@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.net.DomainNameValidator.MAX_NAME_LENGTH;
+import static io.spine.net.DomainNameValidator.isUcsChar;
+import static io.spine.net.Patterns.HOST_NAME_PATTERN;
+
+@DisplayName("`DomainNameValidator` should")
+class DomainNameValidatorTest {
+
+    /**
+     * Code points for random names.
+     *
+     * <p>Includes delimiters, the Punycode prefix characters, excluded spaces, a surrogate
+     * pair, and a lone surrogate.
+     */
+    private static final int[] ALPHABET = {
+            'a', 'x', 'n', 'Z', '0', '9', '_', '-', '-', '.', '.', '.',
+            'ж', '例', 0x00A0, 0x2000, 0x3000, 0xFDD0, 0x1F600, 0xE0100, 0xD800
+    };
+
+    @Test
+    @DisplayName("accept the same names as the pattern")
+    void sameAsPattern() {
+        assertSameAsPattern("spine.io");
+        assertSameAsPattern("a.com");
+        assertSameAsPattern("boeng747.aero");
+        assertSameAsPattern("192.168.0.1");
+        assertSameAsPattern(".com");
+        assertSameAsPattern("com");
+        assertSameAsPattern("spine..io");
+        assertSameAsPattern("spine.io.");
+        assertSameAsPattern("-spine.io");
+        assertSameAsPattern("spine-.io");
+        assertSameAsPattern("s-p.io");
+        assertSameAsPattern("spine.i");
+        assertSameAsPattern("spine.i0");
+        assertSameAsPattern("spine.xn--p1ai");
+        assertSameAsPattern("spine.xn--");
+        assertSameAsPattern("spine.xn--a");
+        assertSameAsPattern("spine.xn--a-");
+        assertSameAsPattern("spine.xn--a_");
+        assertSameAsPattern("spine.XN--p1ai");
+        assertSameAsPattern("пример.рф");
+        assertSameAsPattern("例子.测试");
+        assertSameAsPattern("a b.com");
+        assertSameAsPattern("a　b.com");
+        assertSameAsPattern("😀.com");
+        assertSameAsPattern("a.\uD800b");
+        assertSameAsPattern("");
+    }
+
+    @Test
+    @DisplayName("apply the same label length limits as the pattern")
+    void labelLimits() {
+        for (var length = 61; length <= 65; length++) {
+            assertSameAsPattern("a".repeat(length) + ".com");
+            assertSameAsPattern("😀".repeat(length) + ".com");
+            assertSameAsPattern("spine." + "c".repeat(length));
+            assertSameAsPattern("spine.xn--" + "d".repeat(length - 4));
+        }
+    }
+
+    @Test
+    @DisplayName("reject names longer than 253 characters")
+    void nameLimit() {
+        var label = "a".repeat(60) + '.';
+        var longest = label.repeat(4) + "b".repeat(9);
+        assertThat(longest.length()).isEqualTo(MAX_NAME_LENGTH);
+
+        assertThat(DomainNameValidator.isValid(longest)).isTrue();
+        assertThat(DomainNameValidator.isValid(longest + 'b')).isFalse();
+    }
+
+    @Test
+    @DisplayName("agree with the pattern on random input")
+    void randomInput() {
+        var random = new Random(42);
+        for (var i = 0; i < 100_000; i++) {
+            var length = random.nextInt(16);
+            var value = new StringBuilder(length * 2);
+            for (var j = 0; j < length; j++) {
+                value.appendCodePoint(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            assertSameAsPattern(value.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("recognize the same UCS characters as the pattern")
+    void ucsChars() {
+        for (var c = 0; c <= Character.MAX_CODE_POINT; c++) {
+            var inPattern = isUcsTld(c);
+            assertWithMessage("U+%s", Integer.toHexString(c))
+                    .that(isUcsChar(c) || isAsciiLetter(c))
+                    .isEqualTo(inPattern);
+        }
+    }
+
+    private static boolean isUcsTld(int c) {
+        var tld = new StringBuilder("a.")
+                .appendCodePoint(c)
+                .appendCodePoint(c)
+                .toString();
+        return HOST_NAME_PATTERN.matcher(tld).matches();
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static void assertSameAsPattern(String name) {
+        var expected = HOST_NAME_PATTERN.matcher(name).matches();
+        assertWithMessage(name)
+                .that(DomainNameValidator.isValid(name))
+                .isEqualTo(expected);
+    }
+}
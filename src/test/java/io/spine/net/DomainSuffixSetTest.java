@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.testing.Assertions.assertIllegalState;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`DomainSuffixSet` should")
+class DomainSuffixSetTest {
+
+    private final DomainSuffixSet set =
+            DomainSuffixSet.of(List.of("example.com", "ads.spine.io", "co.uk"));
+
+    @Test
+    @DisplayName("match listed domains")
+    void listed() {
+        assertThat(set.matches("example.com")).isTrue();
+        assertThat(set.matches("ads.spine.io")).isTrue();
+        assertThat(set.matches("co.uk")).isTrue();
+    }
+
+    @Test
+    @DisplayName("match subdomains of listed domains")
+    void subdomains() {
+        assertThat(set.matches("www.example.com")).isTrue();
+        assertThat(set.matches("a.b.c.ads.spine.io")).isTrue();
+        assertThat(set.matches("spine.co.uk")).isTrue();
+    }
+
+    @Test
+    @DisplayName("not match parents and siblings of listed domains")
+    void notMatch() {
+        assertThat(set.matches("com")).isFalse();
+        assertThat(set.matches("spine.io")).isFalse();
+        assertThat(set.matches("www.spine.io")).isFalse();
+        assertThat(set.matches("myexample.com")).isFalse();
+        assertThat(set.matches("example.org")).isFalse();
+        assertThat(set.matches("")).isFalse();
+        assertThat(set.matches("www..example.org")).isFalse();
+    }
+
+    @Test
+    @DisplayName("find the shortest matching parent domain")
+    void matchStart() {
+        var strict = DomainSuffixSet.of(List.of("spine.io", "ads.spine.io"));
+
+        assertThat(strict.matchStart("x.ads.spine.io")).isEqualTo(6);
+        assertThat(strict.matchStart("spine.io")).isEqualTo(0);
+        assertThat(strict.matchStart("io")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("ignore the case of ASCII letters")
+    void ignoreCase() {
+        assertThat(set.matches("WWW.Example.COM")).isTrue();
+    }
+
+    @Test
+    @DisplayName("match `InternetDomain` values")
+    void internetDomain() {
+        var domain = InternetDomains.valueOf("mail.example.com");
+
+        assertThat(set.matches(domain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("count distinct names")
+    void size() {
+        var repeated = DomainSuffixSet.of(List.of("spine.io", "SPINE.io", "io"));
+
+        assertThat(repeated.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("load names from a file")
+    void load(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("blocklist.txt");
+        Files.writeString(file, "# Trackers.\n\n tracker.example  \nads.example.org\n", UTF_8);
+
+        var loaded = DomainSuffixSet.load(file);
+
+        assertThat(loaded.size()).isEqualTo(2);
+        assertThat(loaded.matches("cdn.tracker.example")).isTrue();
+        assertThat(loaded.matches("example.org")).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject malformed names and missing files")
+    void reject(@TempDir Path directory) {
+        assertIllegalArgument(() -> DomainSuffixSet.of(List.of("spine..io")));
+        assertIllegalState(() -> DomainSuffixSet.load(directory.resolve("missing.txt")));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.net.Patterns.EMAIL_ADDRESS;
+
+@DisplayName("`EmailAddressValidator` should")
+class EmailAddressValidatorTest {
+
+    /**
+     * Characters for random addresses.
+     *
+     * <p>Delimiters are repeated so that they appear often enough to form valid addresses.
+     */
+    private static final String ALPHABET = "aZ09+._%-@@...-- éЖ";
+
+    @Test
+    @DisplayName("accept the same addresses as the pattern")
+    void sameAsPattern() {
+        assertSameAsPattern("user@site.com");
+        assertSameAsPattern("a@b.c");
+        assertSameAsPattern("first.last+tag@mail.example.com");
+        assertSameAsPattern("..@a.b");
+        assertSameAsPattern("user@-site.com");
+        assertSameAsPattern("user@site.-com");
+        assertSameAsPattern("user@site-.com-");
+        assertSameAsPattern("user@site");
+        assertSameAsPattern("user@site.");
+        assertSameAsPattern("user@.com");
+        assertSameAsPattern("user@@site.com");
+        assertSameAsPattern("usér@site.com");
+        assertSameAsPattern("@site.com");
+        assertSameAsPattern("");
+    }
+
+    @Test
+    @DisplayName("apply the same length limits as the pattern")
+    void lengthLimits() {
+        for (var length = 254; length <= 258; length++) {
+            assertSameAsPattern("a".repeat(length) + "@site.com");
+        }
+        for (var length = 63; length <= 67; length++) {
+            assertSameAsPattern("user@" + "b".repeat(length) + ".com");
+        }
+        for (var length = 24; length <= 28; length++) {
+            assertSameAsPattern("user@site." + "c".repeat(length));
+            assertSameAsPattern("user@site." + "c".repeat(length) + ".com");
+        }
+    }
+
+    @Test
+    @DisplayName("agree with the pattern on random input")
+    void randomInput() {
+        var random = new Random(42);
+        for (var i = 0; i < 100_000; i++) {
+            var length = random.nextInt(24);
+            var value = new StringBuilder(length);
+            for (var j = 0; j < length; j++) {
+                value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertSameAsPattern(value.toString());
+        }
+    }
+
+    private static void assertSameAsPattern(String value) {
+        var expected = EMAIL_ADDRESS.matcher(value).matches();
+        assertWithMessage(value)
+                .that(EmailAddressValidator.isValid(value))
+                .isEqualTo(expected);
+    }
+}
@@ -26,6 +26,7 @@
 
 package io.spine.net;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.truth.BooleanSubject;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
@@ -84,4 +85,27 @@ class EmailAddressesTest extends UtilityClassTest<EmailAddresses> {
     void invalidEmail() {
         assertIllegalArgument(() -> EmailAddresses.valueOf("fiz baz"));
     }
+
+    @Test
+    @DisplayName("create values from trusted strings")
+    void fromTrusted() {
+        var values = ImmutableList.of("user@spine.io", "not an address");
+
+        var created = ImmutableList.copyOf(EmailAddresses.fromTrusted(values.iterator()));
+
+        assertThat(created).hasSize(2);
+        assertThat(created.get(1).getValue()).isEqualTo("not an address");
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("validate a sample of trusted strings")
+    void fromTrustedSampled() {
+        var values = ImmutableList.of("user@spine.io", "not an address", "neither this one");
+        var created = EmailAddresses.fromTrusted(values.iterator(), 2);
+        created.next();
+
+        assertThat(created.next().getValue()).isEqualTo("not an address");
+        assertIllegalArgument(created::next);
+    }
 }
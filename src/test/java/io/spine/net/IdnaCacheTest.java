@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`IdnaCache` should")
+class IdnaCacheTest {
+
+    @Test
+    @DisplayName("convert domains as `InternetDomains` does")
+    void convert() {
+        var cache = IdnaCache.create(16);
+        var unicode = InternetDomains.newDomain("bücher.example");
+        var ascii = InternetDomains.newDomain("xn--bcher-kva.example");
+
+        assertThat(cache.toAscii(unicode)).isEqualTo(InternetDomains.toAscii(unicode));
+        assertThat(cache.toUnicode(ascii)).isEqualTo(InternetDomains.toUnicode(ascii));
+    }
+
+    @Test
+    @DisplayName("return the cached conversion")
+    void cache() {
+        var cache = IdnaCache.create(16);
+        var unicode = InternetDomains.newDomain("bücher.example");
+
+        var first = cache.toAscii(unicode);
+        var second = cache.toAscii(InternetDomains.newDomain("bücher.example"));
+
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("not cache the domains which need no conversion")
+    void fastPath() {
+        var cache = IdnaCache.create(16);
+        var domain = InternetDomains.newDomain("spine.io");
+
+        assertThat(cache.toAscii(domain)).isSameInstanceAs(domain);
+        assertThat(cache.toUnicode(domain)).isSameInstanceAs(domain);
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(0);
+    }
+}
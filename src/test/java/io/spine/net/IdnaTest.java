@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.IDN;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`Idna` should")
+class IdnaTest {
+
+    @Test
+    @DisplayName("return ASCII names as they are")
+    void asciiFastPath() {
+        var name = "www.Example.com";
+
+        assertThat(Idna.toAscii(name)).isSameInstanceAs(name);
+        assertThat(Idna.toUnicode(name)).isSameInstanceAs(name);
+    }
+
+    @Test
+    @DisplayName("map labels to lower case and to the NFKC form")
+    void mapping() {
+        assertThat(Idna.toAscii("BÜCHER.example")).isEqualTo("xn--bcher-kva.example");
+        assertThat(Idna.toAscii("ｅｘａｍｐｌｅ.com"))
+                .isEqualTo("example.com");
+        assertThat(Idna.toAscii("Straße.de")).isEqualTo("xn--strae-oqa.de");
+    }
+
+    @Test
+    @DisplayName("treat ideographic full stops as dots")
+    void separators() {
+        assertThat(Idna.toAscii("例。中国"))
+                .isEqualTo("xn--fsq.xn--fiqs8s");
+        assertThat(Idna.toAscii("bücher．example"))
+                .isEqualTo("xn--bcher-kva.example");
+    }
+
+    @Test
+    @DisplayName("decode labels ignoring the case of the prefix and the digits")
+    void decode() {
+        assertThat(Idna.toUnicode("xn--Bcher-kva.example")).isEqualTo("bücher.example");
+    }
+
+    @Test
+    @DisplayName("decode upper case labels to lower case")
+    void decodeUpperCase() {
+        assertThat(Idna.toUnicode("XN--BCHER-KVA.DE")).isEqualTo("bücher.DE");
+        assertThat(Idna.toUnicode("XN--BCHER-KVA.de"))
+                .isEqualTo(IDN.toUnicode("xn--bcher-kva.de", IDN.ALLOW_UNASSIGNED));
+    }
+
+    @Test
+    @DisplayName("leave the labels which are not valid Punycode as they are")
+    void invalidPunycode() {
+        assertThat(Idna.toUnicode("xn--.example")).isEqualTo("xn--.example");
+        assertThat(Idna.toUnicode("xn--abc.example")).isEqualTo("xn--abc.example");
+        assertThat(Idna.toUnicode("xn--a!b.xn--bcher-kva"))
+                .isEqualTo("xn--a!b.bücher");
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject labels too long in the ASCII form")
+    void tooLong() {
+        var label = "ü".repeat(60);
+        assertIllegalArgument(() -> Idna.toAscii(label + ".example"));
+    }
+
+    @Test
+    @DisplayName("convert names as `java.net.IDN` does")
+    void sameAsJdk() {
+        var random = new Random(42);
+        int[][] scripts = {
+                {'a', 'z'}, {0xE0, 0xF6}, {0x430, 0x44F}, {0x3B1, 0x3C1},
+                {0x5D0, 0x5EA}, {0x4E00, 0x4FFF}, {'0', '9'}
+        };
+        for (var i = 0; i < 10_000; i++) {
+            var name = new StringBuilder();
+            var labels = 1 + random.nextInt(3);
+            for (var l = 0; l < labels; l++) {
+                var length = 1 + random.nextInt(10);
+                var script = scripts[random.nextInt(scripts.length)];
+                for (var j = 0; j < length; j++) {
+                    name.appendCodePoint(script[0] + random.nextInt(script[1] - script[0] + 1));
+                }
+                name.append('.');
+            }
+            name.append("com");
+            var unicode = name.toString();
+            var expected = IDN.toASCII(unicode, IDN.ALLOW_UNASSIGNED);
+            var ascii = Idna.toAscii(unicode);
+
+            assertWithMessage(unicode).that(ascii).isEqualTo(expected);
+            assertWithMessage(ascii)
+                    .that(Idna.toUnicode(ascii))
+                    .isEqualTo(IDN.toUnicode(ascii, IDN.ALLOW_UNASSIGNED));
+        }
+    }
+}
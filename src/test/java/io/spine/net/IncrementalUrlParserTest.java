@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.net.UrlParser.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`IncrementalUrlParser` should")
+class IncrementalUrlParserTest {
+
+    /** The parts from which the URLs are generated for comparing with {@link UrlParser}. */
+    private static final String[] PARTS = {
+            "http", "https", "ftp5", "://", ":", "/", "//", "@", "#", "?", "&", "=",
+            "user", "secret", "spine.io", "8080", "a", "b=", "c=d", "пример.рф", "日本",
+            "😀", "%20", ":/", "://x@", "", "é"
+    };
+
+    @Test
+    @DisplayName("parse a URL split between byte buffers")
+    void bytes() {
+        var parser = IncrementalUrlParser.newInstance();
+        parser.accept(ByteBuffer.wrap("https://user@spine.io:80".getBytes(UTF_8)));
+        parser.accept(ByteBuffer.wrap("80/docs?page=2#top".getBytes(UTF_8)));
+
+        var uri = parser.finish();
+
+        assertThat(uri.getProtocol().getSchema()).isEqualTo(Uri.Schema.HTTPS);
+        assertThat(uri.getAuth().getUserName()).isEqualTo("user");
+        assertThat(uri.getHost()).isEqualTo("spine.io");
+        assertThat(uri.getPort()).isEqualTo("8080");
+        assertThat(uri.getPath()).isEqualTo("docs");
+        assertThat(uri.getQuery(0).getValue()).isEqualTo("2");
+        assertThat(uri.getFragment()).isEqualTo("top");
+    }
+
+    @Test
+    @DisplayName("decode a character split between byte buffers")
+    void splitCharacter() {
+        var bytes = "http://пример.рф/😀".getBytes(UTF_8);
+        var parser = IncrementalUrlParser.newInstance();
+        for (var b : bytes) {
+            parser.accept(ByteBuffer.wrap(new byte[]{b}));
+        }
+
+        var view = parser.finishView();
+
+        assertThat(view.host().toString()).isEqualTo("пример.рф");
+        assertThat(view.path().toString()).isEqualTo("😀");
+    }
+
+    @Test
+    @DisplayName("parse the same URLs as `UrlParser` from chunks of bytes and characters")
+    void sameAsParser() {
+        var random = new Random(42);
+        for (var mode : Mode.values()) {
+            var parser = UrlParser.newInstance(mode);
+            var incremental = IncrementalUrlParser.newInstance(mode);
+            for (var i = 0; i < 5_000; i++) {
+                var spec = randomUrl(random);
+                var expected = parser.tryParse(spec);
+
+                feed(incremental, spec, random);
+
+                assertWithMessage(spec)
+                        .that(incremental.tryFinish())
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("decode malformed bytes as the standard decoder does")
+    void malformedBytes() {
+        var random = new Random(42);
+        var parser = IncrementalUrlParser.newInstance();
+        for (var i = 0; i < 5_000; i++) {
+            var bytes = new byte[random.nextInt(16)];
+            for (var j = 0; j < bytes.length; j++) {
+                bytes[j] = random.nextBoolean()
+                           ? (byte) "h:/@#?".charAt(random.nextInt(6))
+                           : (byte) (0x80 + random.nextInt(0x80));
+            }
+            var expected = new String(bytes, UTF_8);
+            var split = random.nextInt(bytes.length + 1);
+            parser.accept(ByteBuffer.wrap(Arrays.copyOf(bytes, split)));
+            parser.accept(ByteBuffer.wrap(Arrays.copyOfRange(bytes, split, bytes.length)));
+
+            assertThat(parser.finishView().spec()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("decode an incomplete character followed by characters")
+    void incompleteCharacter() {
+        var parser = IncrementalUrlParser.newInstance();
+        parser.accept(ByteBuffer.wrap(new byte[]{'a', (byte) 0xD0}));
+        parser.accept(".io".toCharArray());
+
+        assertThat(parser.finish().getHost()).isEqualTo("a\uFFFD.io");
+    }
+
+    @Test
+    @DisplayName("reject a malformed query parameter in the strict mode")
+    void strict() {
+        var parser = IncrementalUrlParser.newInstance(Mode.STRICT);
+        parser.accept("spine.io?key".toCharArray());
+
+        assertIllegalArgument(parser::finish);
+        parser.accept("spine.io?key=value".toCharArray());
+        assertThat(parser.finish().getQuery(0).getKey()).isEqualTo("key");
+    }
+
+    @Test
+    @DisplayName("discard the accepted input on reset")
+    void reset() {
+        var parser = IncrementalUrlParser.newInstance();
+        parser.accept(ByteBuffer.wrap(new byte[]{'x', '@', (byte) 0xE2, (byte) 0x82}));
+        parser.reset();
+        parser.accept("spine.io".toCharArray());
+
+        var uri = parser.finish();
+
+        assertThat(uri.getHost()).isEqualTo("spine.io");
+        assertThat(uri.hasAuth()).isFalse();
+    }
+
+    private static String randomUrl(Random random) {
+        var length = random.nextInt(10);
+        var result = new StringBuilder();
+        for (var i = 0; i < length; i++) {
+            result.append(PARTS[random.nextInt(PARTS.length)]);
+        }
+        return result.toString();
+    }
+
+    private static void feed(IncrementalUrlParser parser, String spec, Random random) {
+        if (random.nextBoolean()) {
+            var bytes = spec.getBytes(UTF_8);
+            for (var start = 0; start < bytes.length; ) {
+                var end = Math.min(bytes.length, start + random.nextInt(6));
+                parser.accept(ByteBuffer.wrap(bytes, start, end - start));
+                start = end;
+            }
+        } else {
+            var chars = spec.toCharArray();
+            for (var start = 0; start < chars.length; ) {
+                var end = Math.min(chars.length, start + random.nextInt(6));
+                parser.accept(chars, start, end - start);
+                start = end;
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@
 
 package io.spine.net;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.truth.BooleanSubject;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
@@ -69,6 +70,72 @@ class InternetDomainsTest extends UtilityClassTest<InternetDomains> {
         return assertThat(isValid(email));
     }
 
+    @Test
+    @DisplayName("check if a name has a known top-level domain")
+    void knownTopLevelDomain() {
+        assertThat(InternetDomains.hasKnownTopLevelDomain("spine.io")).isTrue();
+        assertThat(InternetDomains.hasKnownTopLevelDomain("example.xn--p1ai")).isTrue();
+        assertThat(InternetDomains.hasKnownTopLevelDomain("example.xn--zzzz")).isTrue();
+        assertThat(InternetDomains.hasKnownTopLevelDomain("spine.IO")).isTrue();
+
+        assertThat(InternetDomains.hasKnownTopLevelDomain("spine.spine")).isFalse();
+        assertThat(InternetDomains.hasKnownTopLevelDomain("-spine.io")).isFalse();
+        assertThat(InternetDomains.hasKnownTopLevelDomain("io")).isFalse();
+    }
+
+    @Test
+    @DisplayName("obtain the public suffix")
+    void publicSuffix() {
+        assertThat(InternetDomains.publicSuffix(domain("www.spine.co.uk")).getValue())
+                .isEqualTo("co.uk");
+        assertThat(InternetDomains.publicSuffix(domain("spine.io")).getValue())
+                .isEqualTo("io");
+    }
+
+    @Test
+    @DisplayName("obtain the registrable domain")
+    void registrableDomain() {
+        assertThat(InternetDomains.registrableDomain(domain("www.spine.co.uk")))
+                .hasValue(domain("spine.co.uk"));
+        assertThat(InternetDomains.registrableDomain(domain("spine.io")))
+                .hasValue(domain("spine.io"));
+        assertThat(InternetDomains.registrableDomain(domain("co.uk")))
+                .isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject names with empty labels when looking for the public suffix")
+    void rejectEmptyLabels() {
+        assertIllegalArgument(() -> InternetDomains.publicSuffix(domain("spine..io")));
+        assertIllegalArgument(() -> InternetDomains.registrableDomain(domain("")));
+    }
+
+    @Test
+    @DisplayName("convert domains between the Unicode and ASCII forms")
+    void idna() {
+        var unicode = domain("www.b\u00fccher.example");
+        var ascii = domain("www.xn--bcher-kva.example");
+
+        assertThat(InternetDomains.toAscii(unicode)).isEqualTo(ascii);
+        assertThat(InternetDomains.toUnicode(ascii)).isEqualTo(unicode);
+    }
+
+    @Test
+    @DisplayName("return the domain as it is if it needs no conversion")
+    void idnaFastPath() {
+        var ascii = domain("www.Spine.io");
+
+        assertThat(InternetDomains.toAscii(ascii)).isSameInstanceAs(ascii);
+        assertThat(InternetDomains.toUnicode(ascii)).isSameInstanceAs(ascii);
+    }
+
+    private static InternetDomain domain(String name) {
+        return InternetDomain.newBuilder()
+                .setValue(name)
+                .build();
+    }
+
     @Test
     @DisplayName("create new instance")
     void create() {
@@ -82,4 +149,27 @@ class InternetDomainsTest extends UtilityClassTest<InternetDomains> {
     void rejectInvalidName() {
         assertIllegalArgument(() -> InternetDomains.valueOf("1.0"));
     }
+
+    @Test
+    @DisplayName("create values from trusted strings")
+    void fromTrusted() {
+        var values = ImmutableList.of("spine.io", "1.0");
+
+        var created = ImmutableList.copyOf(InternetDomains.fromTrusted(values.iterator()));
+
+        assertThat(created).hasSize(2);
+        assertThat(created.get(1).getValue()).isEqualTo("1.0");
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("validate a sample of trusted strings")
+    void fromTrustedSampled() {
+        var values = ImmutableList.of("spine.io", "1.0", "2.0");
+        var created = InternetDomains.fromTrusted(values.iterator(), 2);
+        created.next();
+
+        assertThat(created.next().getValue()).isEqualTo("1.0");
+        assertIllegalArgument(created::next);
+    }
 }
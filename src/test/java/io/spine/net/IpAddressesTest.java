@@ -0,0 +1,271 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.net.InetAddresses;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.Inet6Address;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`IpAddresses` utility class should")
+class IpAddressesTest extends UtilityClassTest<IpAddresses> {
+
+    IpAddressesTest() {
+        super(IpAddresses.class);
+    }
+
+    @Nested
+    @DisplayName("parse IPv4 addresses")
+    class Ipv4 {
+
+        @Test
+        @DisplayName("into numbers")
+        void parse() {
+            assertThat(IpAddresses.parseIpv4("0.0.0.0")).isEqualTo(0);
+            assertThat(IpAddresses.parseIpv4("192.0.2.1")).isEqualTo(0xC0000201);
+            assertThat(IpAddresses.parseIpv4("255.255.255.255")).isEqualTo(-1);
+            assertThat(IpAddresses.parseIpv4("10.20.30.40")).isEqualTo(0x0A141E28);
+        }
+
+        @Test
+        @DisplayName("rejecting malformed ones")
+        void reject() {
+            assertThat(IpAddresses.isIpv4("")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2.3")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2.3.4.5")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2.3.256")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2.3.04")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2..4")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2.3.4.")).isFalse();
+            assertThat(IpAddresses.isIpv4(" 1.2.3.4")).isFalse();
+            assertThat(IpAddresses.isIpv4("1.2.3.1000")).isFalse();
+        }
+
+        @Test
+        @SuppressWarnings("CheckReturnValue")
+        @DisplayName("throwing if asked for a number of a malformed one")
+        void throwOnMalformed() {
+            assertIllegalArgument(() -> IpAddresses.parseIpv4("spine.io"));
+        }
+
+        @Test
+        @DisplayName("in a region of a sequence")
+        void region() {
+            var text = "host=10.0.0.1;";
+
+            assertThat(IpAddresses.parseIpv4(text, 5, 13)).isEqualTo(0x0A000001L);
+            assertThat(IpAddresses.parseIpv4(text, 5, 14)).isEqualTo(-1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("parse IPv6 addresses")
+    class Ipv6 {
+
+        @Test
+        @DisplayName("in the full form")
+        void full() {
+            assertIpv6("2001:0db8:0000:0000:0000:ff00:0042:8329",
+                       0x20010DB800000000L, 0x0000FF0000428329L);
+            assertIpv6("1:2:3:4:5:6:7:8", 0x0001000200030004L, 0x0005000600070008L);
+        }
+
+        @Test
+        @DisplayName("with compressed zeros")
+        void compressed() {
+            assertIpv6("::", 0, 0);
+            assertIpv6("::1", 0, 1);
+            assertIpv6("1::", 0x0001000000000000L, 0);
+            assertIpv6("2001:db8::ff00:42:8329", 0x20010DB800000000L, 0x0000FF0000428329L);
+            assertIpv6("1:2:3:4:5:6:7::", 0x0001000200030004L, 0x0005000600070000L);
+            assertIpv6("::2:3:4:5:6:7:8", 0x0000000200030004L, 0x0005000600070008L);
+            assertIpv6("1:2:3:4::5:6:7", 0x0001000200030004L, 0x0000000500060007L);
+        }
+
+        @Test
+        @DisplayName("with an embedded IPv4 address")
+        void embeddedIpv4() {
+            assertIpv6("::ffff:192.0.2.1", 0, 0x0000FFFFC0000201L);
+            assertIpv6("64:ff9b::192.0.2.1", 0x0064FF9B00000000L, 0x00000000C0000201L);
+            assertIpv6("1:2:3:4:5:6:1.2.3.4", 0x0001000200030004L, 0x0005000601020304L);
+        }
+
+        @Test
+        @DisplayName("rejecting malformed ones")
+        void reject() {
+            var malformed = new String[]{
+                    "", ":", ":::", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3",
+                    ":1::2", "1::2:", "12345::", "g::", "1:2:3:4:5:6:7:8::",
+                    "::1.2.3", "1.2.3.4::", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3.04",
+                    "fe80::1%eth0", "[::1]"
+            };
+            for (var value : malformed) {
+                assertWithMessage(value).that(IpAddresses.isIpv6(value)).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("not touching the array if the address is malformed")
+        void keepArray() {
+            var address = new long[]{7, 8};
+
+            assertThat(IpAddresses.parseIpv6("1::2::3", address)).isFalse();
+            assertThat(address).asList().containsExactly(7L, 8L).inOrder();
+        }
+
+        private void assertIpv6(String value, long high, long low) {
+            var address = new long[2];
+            assertWithMessage(value)
+                    .that(IpAddresses.parseIpv6(value, address))
+                    .isTrue();
+            assertWithMessage(value)
+                    .that(address)
+                    .asList()
+                    .containsExactly(high, low)
+                    .inOrder();
+        }
+    }
+
+    @Test
+    @DisplayName("accept the same addresses as Guava")
+    void sameAsGuava() {
+        var random = new Random(42);
+        var parts = new String[]{"0", "1", "ff", "FFFF", "db8", "12345", "", ":", "::",
+                                 "1.2.3.4", "256.1.1.1", "01.2.3.4", "g"};
+        var parsed = new long[2];
+        for (var i = 0; i < 100_000; i++) {
+            var value = new StringBuilder();
+            var count = random.nextInt(10);
+            for (var j = 0; j < count; j++) {
+                if (j > 0) {
+                    value.append(random.nextInt(4) == 0 ? "::" : ":");
+                }
+                value.append(parts[random.nextInt(parts.length)]);
+            }
+            var text = value.toString();
+            var expected = InetAddresses.isInetAddress(text);
+            assertWithMessage(text)
+                    .that(IpAddresses.isValid(text))
+                    .isEqualTo(expected);
+            if (expected && IpAddresses.parseIpv6(text, parsed)) {
+                var address = InetAddresses.forString(text);
+                if (address instanceof Inet6Address) {
+                    var bytes = address.getAddress();
+                    assertWithMessage(text).that(parsed[0]).isEqualTo(toLong(bytes, 0));
+                    assertWithMessage(text).that(parsed[1]).isEqualTo(toLong(bytes, 8));
+                }
+            }
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        var result = 0L;
+        for (var i = offset; i < offset + Long.BYTES; i++) {
+            result = (result << Byte.SIZE) | (bytes[i] & 0xFF);
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("print")
+    class Print {
+
+        @Test
+        @DisplayName("IPv4 addresses")
+        void ipv4() {
+            assertThat(print(IpAddresses.ipv4(0xC0000201))).isEqualTo("192.0.2.1");
+            assertThat(print(IpAddresses.ipv4(0))).isEqualTo("0.0.0.0");
+            assertThat(print(IpAddresses.ipv4(-1))).isEqualTo("255.255.255.255");
+        }
+
+        @Test
+        @DisplayName("IPv6 addresses in the canonical form")
+        void ipv6() {
+            assertCanonical("2001:0DB8:0000:0000:0000:ff00:0042:8329", "2001:db8::ff00:42:8329");
+            assertCanonical("0:0:0:0:0:0:0:0", "::");
+            assertCanonical("0:0:0:0:0:0:0:1", "::1");
+            assertCanonical("1:0:0:0:0:0:0:0", "1::");
+            assertCanonical("2001:db8:0:1:1:1:1:1", "2001:db8:0:1:1:1:1:1");
+            assertCanonical("2001:0:0:1:0:0:0:1", "2001:0:0:1::1");
+            assertCanonical("2001:db8:0:0:1:0:0:1", "2001:db8::1:0:0:1");
+            assertCanonical("::ffff:c000:0201", "::ffff:192.0.2.1");
+        }
+
+        @Test
+        @DisplayName("the same canonical form as Guava")
+        void sameAsGuava() {
+            var random = new Random(42);
+            for (var i = 0; i < 10_000; i++) {
+                var high = sparse(random);
+                var low = sparse(random);
+                if (high == 0 && (low >>> 32) == 0xFFFF) {
+                    continue;
+                }
+                var printed = print(IpAddresses.ipv6(high, low));
+                var bytes = InetAddresses.forString(printed)
+                                         .getAddress();
+                var guava = InetAddresses.toAddrString(InetAddresses.forString(printed));
+
+                assertThat(toLong(bytes, 0)).isEqualTo(high);
+                assertThat(toLong(bytes, 8)).isEqualTo(low);
+                assertWithMessage(printed).that(printed).isEqualTo(guava);
+            }
+        }
+
+        private long sparse(Random random) {
+            var result = 0L;
+            for (var i = 0; i < 4; i++) {
+                result = (result << 16) | (random.nextBoolean() ? 0 : random.nextInt(0x10000));
+            }
+            return result;
+        }
+
+        private void assertCanonical(String value, String expected) {
+            assertThat(print(IpAddresses.valueOf(value))).isEqualTo(expected);
+        }
+
+        private String print(IpAddress address) {
+            return IpAddresses.toString(address);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject values which are not IP addresses")
+    void rejectValueOf() {
+        assertIllegalArgument(() -> IpAddresses.valueOf("spine.io"));
+        assertIllegalArgument(() -> IpAddresses.toString(IpAddress.getDefaultInstance()));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.net.LabelTrie.ABSENT;
+import static io.spine.net.LabelTrie.ROOT;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`LabelTrie` should")
+class LabelTrieTest {
+
+    @Test
+    @DisplayName("find nodes label by label from the top-level one")
+    void walk() {
+        var trie = LabelTrie.newBuilder()
+                .add("spine.io", 1)
+                .add("base.spine.io", 2)
+                .add("teamdev.com", 4)
+                .build();
+        var host = "www.base.spine.io";
+
+        var io = trie.child(ROOT, host, 15, 17);
+        var spine = trie.child(io, host, 9, 14);
+        var base = trie.child(spine, host, 4, 8);
+
+        assertThat(trie.flags(io)).isEqualTo(0);
+        assertThat(trie.flags(spine)).isEqualTo(1);
+        assertThat(trie.flags(base)).isEqualTo(2);
+        assertThat(trie.child(base, host, 0, 3)).isEqualTo(ABSENT);
+        assertThat(trie.child(ROOT, host, 9, 14)).isEqualTo(ABSENT);
+    }
+
+    @Test
+    @DisplayName("store each distinct label once")
+    void internLabels() {
+        var trie = LabelTrie.newBuilder()
+                .add("www.spine.io", 1)
+                .add("www.teamdev.io", 1)
+                .add("spine.com", 1)
+                .build();
+
+        assertThat(trie.size()).isEqualTo(8);
+        assertThat(trie.labelCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("combine flags of repeated names")
+    void combineFlags() {
+        var trie = LabelTrie.newBuilder()
+                .add("spine.io", 1)
+                .add("SPINE.io", 2)
+                .build();
+        var host = "spine.io";
+
+        var io = trie.child(ROOT, host, 6, 8);
+        var spine = trie.child(io, host, 0, 5);
+
+        assertThat(trie.flags(spine)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ignore the case of ASCII letters")
+    void ignoreCase() {
+        var trie = LabelTrie.newBuilder()
+                .add("Spine.IO", 1)
+                .build();
+
+        assertThat(trie.child(ROOT, "io", 0, 2)).isNotEqualTo(ABSENT);
+        assertThat(trie.child(ROOT, "iO", 0, 2)).isNotEqualTo(ABSENT);
+    }
+
+    @Test
+    @DisplayName("find any of many children")
+    void manyChildren() {
+        var builder = LabelTrie.newBuilder();
+        for (var i = 0; i < 500; i++) {
+            builder.add("label" + i + ".com", 1);
+        }
+        var trie = builder.build();
+        var com = trie.child(ROOT, "com", 0, 3);
+
+        for (var i = 0; i < 500; i++) {
+            var label = "label" + i;
+            var node = trie.child(com, label, 0, label.length());
+            assertThat(trie.flags(node)).isEqualTo(1);
+        }
+        assertThat(trie.child(com, "label500", 0, 8)).isEqualTo(ABSENT);
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject names with empty labels")
+    void rejectEmptyLabels() {
+        var builder = LabelTrie.newBuilder();
+
+        assertIllegalArgument(() -> builder.add("", 1));
+        assertIllegalArgument(() -> builder.add("spine..io", 1));
+        assertIllegalArgument(() -> builder.add(".io", 1));
+    }
+}
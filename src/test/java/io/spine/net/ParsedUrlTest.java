@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalState;
+
+@DisplayName("`ParsedUrl` should")
+class ParsedUrlTest {
+
+    @Test
+    @DisplayName("provide the parsed `Uri`")
+    void success() {
+        var spec = "https://spine.io";
+        var uri = Urls.parse(spec);
+
+        var result = ParsedUrl.success(spec, uri);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.spec()).isEqualTo(spec);
+        assertThat(result.uri()).isEqualTo(uri);
+        assertThat(result.error()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("provide the error and reject obtaining `Uri` on failure")
+    @SuppressWarnings("CheckReturnValue")
+    void failure() {
+        var result = ParsedUrl.failure("spine.io?x", 9, 10);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.error()).hasValue("Query Parameter is invalid: x");
+        assertIllegalState(result::uri);
+    }
+}
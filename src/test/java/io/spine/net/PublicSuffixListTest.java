@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.testing.Assertions.assertIllegalState;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`PublicSuffixList` should")
+class PublicSuffixListTest {
+
+    @Nested
+    @DisplayName("find registrable domains by the bundled list")
+    class Bundled {
+
+        private final PublicSuffixList list = PublicSuffixList.bundled();
+
+        @Test
+        @DisplayName("for unlisted top-level domains")
+        void unlisted() {
+            assertRegistrable("example", null);
+            assertRegistrable("example.example", "example.example");
+            assertRegistrable("b.example.example", "example.example");
+        }
+
+        @Test
+        @DisplayName("for normal rules")
+        void normalRules() {
+            assertRegistrable("com", null);
+            assertRegistrable("example.com", "example.com");
+            assertRegistrable("www.example.com", "example.com");
+            assertRegistrable("uk.com", null);
+            assertRegistrable("example.uk.com", "example.uk.com");
+            assertRegistrable("a.b.example.uk.com", "example.uk.com");
+            assertRegistrable("test.ac", "test.ac");
+            assertRegistrable("us", null);
+            assertRegistrable("www.test.us", "test.us");
+            assertRegistrable("k12.ak.us", null);
+            assertRegistrable("www.test.k12.ak.us", "test.k12.ak.us");
+        }
+
+        @Test
+        @DisplayName("for wildcard rules")
+        void wildcardRules() {
+            assertRegistrable("mm", null);
+            assertRegistrable("c.mm", null);
+            assertRegistrable("b.c.mm", "b.c.mm");
+            assertRegistrable("a.b.c.mm", "b.c.mm");
+            assertRegistrable("ide.kyoto.jp", null);
+            assertRegistrable("a.b.ide.kyoto.jp", "b.ide.kyoto.jp");
+            assertRegistrable("c.kobe.jp", null);
+            assertRegistrable("a.b.c.kobe.jp", "b.c.kobe.jp");
+            assertRegistrable("test.ck", null);
+            assertRegistrable("a.b.test.ck", "b.test.ck");
+        }
+
+        @Test
+        @DisplayName("for exception rules")
+        void exceptionRules() {
+            assertRegistrable("city.kobe.jp", "city.kobe.jp");
+            assertRegistrable("www.city.kobe.jp", "city.kobe.jp");
+            assertRegistrable("www.ck", "www.ck");
+            assertRegistrable("www.www.ck", "www.ck");
+        }
+
+        @Test
+        @DisplayName("for internationalized names")
+        void internationalized() {
+            assertRegistrable("公司.cn", null);
+            assertRegistrable("食狮.公司.cn", "食狮.公司.cn");
+            assertRegistrable("www.食狮.公司.cn", "食狮.公司.cn");
+        }
+
+        @Test
+        @DisplayName("ignoring the case of ASCII letters")
+        void ignoreCase() {
+            assertRegistrable("COM", null);
+            assertRegistrable("www.Example.COM", "Example.COM");
+        }
+
+        @Test
+        @DisplayName("rejecting names with empty labels")
+        void emptyLabels() {
+            assertThat(list.publicSuffixStart("")).isEqualTo(-1);
+            assertThat(list.publicSuffixStart(".com")).isEqualTo(-1);
+            assertThat(list.publicSuffixStart("example.com.")).isEqualTo(-1);
+            assertThat(list.publicSuffixStart("a..example.com")).isEqualTo(-1);
+            assertThat(list.publicSuffix("a..example.com")).isNull();
+        }
+
+        @Test
+        @DisplayName("returning views of the host")
+        void views() {
+            var host = "www.spine.co.uk";
+
+            assertThat(list.publicSuffixStart(host)).isEqualTo(10);
+            assertThat(list.registrableDomainStart(host)).isEqualTo(4);
+            assertThat(String.valueOf(list.publicSuffix(host))).isEqualTo("co.uk");
+            assertThat(list.isPublicSuffix("co.uk")).isTrue();
+            assertThat(list.isPublicSuffix(host)).isFalse();
+        }
+
+        private void assertRegistrable(String host, String expected) {
+            var actual = list.registrableDomain(host);
+            assertWithMessage(host)
+                    .that(actual == null ? null : actual.toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("load rules")
+    class Load {
+
+        @TempDir
+        @SuppressWarnings("PackageVisibleField") // Set by JUnit.
+        Path directory;
+
+        @Test
+        @DisplayName("from a file")
+        void fromFile() throws IOException {
+            var file = directory.resolve("list.dat");
+            Files.writeString(file, "// Comment.\n\nspine\n*.base.spine  trailing text\n"
+                    + "!www.base.spine\n", UTF_8);
+
+            var list = PublicSuffixList.load(file);
+
+            assertThat(list.publicSuffixStart("io.spine")).isEqualTo(3);
+            assertThat(list.publicSuffixStart("a.b.base.spine")).isEqualTo(2);
+            assertThat(list.publicSuffixStart("www.base.spine")).isEqualTo(4);
+        }
+
+        @Test
+        @SuppressWarnings("CheckReturnValue")
+        @DisplayName("rejecting malformed rules")
+        void malformed() {
+            assertIllegalArgument(() -> PublicSuffixList.parse(List.of("a.*.spine")));
+            assertIllegalArgument(() -> PublicSuffixList.parse(List.of("!spine")));
+            assertIllegalArgument(() -> PublicSuffixList.parse(List.of("a..spine")));
+        }
+
+        @Test
+        @SuppressWarnings("CheckReturnValue")
+        @DisplayName("failing on a missing file")
+        void missingFile() {
+            assertIllegalState(() -> PublicSuffixList.load(directory.resolve("missing.dat")));
+        }
+    }
+}
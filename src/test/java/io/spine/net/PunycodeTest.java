@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.net.Punycode.FAILED;
+
+@DisplayName("`Punycode` should")
+class PunycodeTest {
+
+    /**
+     * Samples of RFC 3492, section 7.1.
+     */
+    private static final String[][] SAMPLES = {
+            {"ليهمابتكلموش"
+                     + "عربي؟",
+             "egbpdaj6bu4bxfgehfvwxn"},
+            {"他们为什么不说中文",
+             "ihqwcrb4cv8a8dqg056pqjye"},
+            {"почемужеонин"
+                     + "еговорятпо"
+                     + "русски",
+             "b1abfaaepdrnnbgefbadotcwatmq2g4l"},
+            {"3年B組金八先生", "3B-ww4c5e180e575a65lsy2b"},
+            {"-> $1.00 <-", "-> $1.00 <--"},
+            {"bücher", "bcher-kva"},
+    };
+
+    @Test
+    @DisplayName("encode the samples of RFC 3492")
+    void encode() {
+        for (var sample : SAMPLES) {
+            assertThat(encode(sample[0])).isEqualTo(sample[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("decode the samples of RFC 3492")
+    void decode() {
+        for (var sample : SAMPLES) {
+            assertThat(decode(sample[1])).isEqualTo(sample[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("decode what it encodes, including supplementary code points")
+    void roundTrip() {
+        var random = new Random(42);
+        for (var i = 0; i < 10_000; i++) {
+            var value = new StringBuilder();
+            var length = 1 + random.nextInt(12);
+            for (var j = 0; j < length; j++) {
+                var kind = random.nextInt(4);
+                var codePoint = kind == 0 ? 'a' + random.nextInt(26)
+                              : kind == 1 ? 0xA0 + random.nextInt(0xD7FF - 0xA0)
+                              : kind == 2 ? 0x10000 + random.nextInt(0x10000)
+                              : '0' + random.nextInt(10);
+                value.appendCodePoint(codePoint);
+            }
+            var text = value.toString();
+            assertWithMessage(text).that(decode(encode(text))).isEqualTo(text);
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid input")
+    void reject() {
+        var buffer = new char[64];
+
+        assertThat(Punycode.decode("aé-b", 0, 4, buffer, 0)).isEqualTo(FAILED);
+        assertThat(Punycode.decode("b!", 0, 2, buffer, 0)).isEqualTo(FAILED);
+        assertThat(Punycode.decode("99999999999", 0, 11, buffer, 0)).isEqualTo(FAILED);
+        assertThat(Punycode.decode("bcher-kv", 0, 8, buffer, 0)).isEqualTo(FAILED);
+        assertThat(Punycode.encode("\uD800x", 0, 2, buffer, 0)).isEqualTo(FAILED);
+    }
+
+    @Test
+    @DisplayName("fail if the output does not fit into the buffer")
+    void overflow() {
+        assertThat(Punycode.encode("bücher", 0, 6, new char[8], 0)).isEqualTo(FAILED);
+        assertThat(Punycode.encode("bücher", 0, 6, new char[9], 0)).isEqualTo(9);
+        assertThat(Punycode.decode("bcher-kva", 0, 9, new char[5], 0)).isEqualTo(FAILED);
+    }
+
+    private static String encode(String value) {
+        var buffer = new char[256];
+        var end = Punycode.encode(value, 0, value.length(), buffer, 0);
+        assertThat(end).isNotEqualTo(FAILED);
+        return new String(buffer, 0, end);
+    }
+
+    private static String decode(String value) {
+        var buffer = new char[256];
+        var end = Punycode.decode(value, 0, value.length(), buffer, 0);
+        assertThat(end).isNotEqualTo(FAILED);
+        return new String(buffer, 0, end);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.net.Uri.QueryParameter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+@DisplayName("`QueryIndex` should")
+class QueryIndexTest {
+
+    /** The keys of the generated parameters, of which {@code "Aa"} and {@code "BB"} collide. */
+    private static final String[] KEYS = {
+            "q", "page", "lang", "utm_source", "utm_medium", "Aa", "BB", "", "id", "sort"
+    };
+
+    @Test
+    @DisplayName("find parameters among a few")
+    void few() {
+        var index = QueryIndex.of(Urls.parse("spine.io?q=url&page=2&q=parser"));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.get("q")).hasValue("url");
+        assertThat(index.getAll("q")).containsExactly("url", "parser").inOrder();
+        assertThat(index.get("lang")).isEmpty();
+        assertThat(index.contains("page")).isTrue();
+        assertThat(index.getOrDefault("page", "1")).isEqualTo("2");
+        assertThat(index.getOrDefault("lang", "en")).isEqualTo("en");
+    }
+
+    @Test
+    @DisplayName("find parameters among many")
+    void many() {
+        var query = new StringBuilder("spine.io?");
+        for (var i = 0; i < 40; i++) {
+            query.append("key")
+                 .append(i % 30)
+                 .append('=')
+                 .append(i)
+                 .append('&');
+        }
+        var index = QueryIndex.of(Urls.parse(query.toString()));
+
+        assertThat(index.get("key7")).hasValue("7");
+        assertThat(index.getAll("key5")).containsExactly("5", "35").inOrder();
+        assertThat(index.getAll("key29")).containsExactly("29");
+        assertThat(index.get("key30")).isEmpty();
+        assertThat(index.getAll("")).containsExactly("");
+        assertThat(index.getOrDefault("key30", "none")).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("find the same parameters as a search of the list")
+    void sameAsList() {
+        var random = new Random(42);
+        for (var i = 0; i < 2_000; i++) {
+            var uri = Uri.newBuilder();
+            var count = random.nextInt(QueryIndex.INDEX_THRESHOLD * 4);
+            for (var j = 0; j < count; j++) {
+                uri.addQuery(QueryParameter.newBuilder()
+                                     .setKey(KEYS[random.nextInt(KEYS.length)])
+                                     .setValue(String.valueOf(j)));
+            }
+            var built = uri.build();
+            var index = QueryIndex.of(built);
+
+            for (var key : KEYS) {
+                var expected = ImmutableList.<String>builder();
+                for (var parameter : built.getQueryList()) {
+                    if (parameter.getKey().equals(key)) {
+                        expected.add(parameter.getValue());
+                    }
+                }
+                var values = expected.build();
+                assertWithMessage(key)
+                        .that(index.getAll(key))
+                        .containsExactlyElementsIn(values)
+                        .inOrder();
+                assertWithMessage(key)
+                        .that(index.get(key))
+                        .isEqualTo(values.stream().findFirst());
+                assertThat(index.contains(key)).isEqualTo(!values.isEmpty());
+            }
+            assertThat(index.get("absent")).isEqualTo(Optional.empty());
+        }
+    }
+}
@@ -53,4 +53,28 @@ class SchemasTest extends UtilityClassTest<Schemas> {
     void unknownSchema() {
         assertEquals(Schema.UNDEFINED, parse("someunknownschema"));
     }
+
+    @Test
+    @DisplayName("obtain value by a name in a region of a sequence ignoring case")
+    void parseRegion() {
+        var url = "HttPs://spine.io";
+
+        assertEquals(Schema.HTTPS, parse(url, 0, 5));
+        assertEquals(Schema.HTTP, parse(url, 0, 4));
+        assertEquals(Schema.UNDEFINED, parse(url, 1, 5));
+    }
+
+    @Test
+    @DisplayName("not find schemas which are not real")
+    void notRealSchemas() {
+        assertEquals(Schema.UNDEFINED, parse("undefined"));
+        assertEquals(Schema.UNDEFINED, parse("unrecognized"));
+        assertEquals(Schema.UNDEFINED, parse(""));
+    }
+
+    @Test
+    @DisplayName("provide lowercase names")
+    void names() {
+        assertEquals("mailto", Schemas.nameOf(Schema.MAILTO));
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`TopLevelDomainSet` should")
+class TopLevelDomainSetTest {
+
+    private static final ImmutableList<String> NAMES =
+            ImmutableList.of("app", "apple", "co", "com", "comm", "xn--p1ai", "рф", "ac");
+
+    @Test
+    @DisplayName("contain the names it is created from")
+    void contain() {
+        var set = TopLevelDomainSet.of(NAMES);
+
+        for (var name : NAMES) {
+            assertThat(set.contains(name, 0, name.length())).isTrue();
+        }
+        assertThat(set.contains("ap", 0, 2)).isFalse();
+        assertThat(set.contains("c", 0, 1)).isFalse();
+        assertThat(set.contains("", 0, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("normalize names to lower case and drop repeated ones")
+    void normalize() {
+        var set = TopLevelDomainSet.of(ImmutableList.of("COM", "com", "Io"));
+
+        assertThat(set.names()).containsExactly("com", "io").inOrder();
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains("cOm", 0, 3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("tell the length of the longest name")
+    void maxLength() {
+        assertThat(TopLevelDomainSet.of(NAMES).maxLength()).isEqualTo(8);
+        assertThat(TopLevelDomainSet.of(ImmutableList.of()).maxLength()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("match exactly its names by the regular expression")
+    void regex() {
+        var set = TopLevelDomainSet.of(NAMES);
+        var pattern = Pattern.compile(set.toRegex());
+        var alphabet = "acelmnopx-рф";
+        var random = new Random(42);
+        for (var i = 0; i < 10_000; i++) {
+            var length = random.nextInt(6);
+            var value = new StringBuilder(length);
+            for (var j = 0; j < length; j++) {
+                value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            var name = value.toString();
+            assertWithMessage(name)
+                    .that(pattern.matcher(name).matches())
+                    .isEqualTo(set.contains(name, 0, name.length()));
+        }
+    }
+
+    @Test
+    @DisplayName("prefer longer names in the regular expression")
+    void preferLonger() {
+        var set = TopLevelDomainSet.of(NAMES);
+        var matcher = Pattern.compile(set.toRegex()).matcher("commerce");
+
+        assertThat(matcher.lookingAt()).isTrue();
+        assertThat(matcher.group()).isEqualTo("comm");
+    }
+
+    @Test
+    @DisplayName("match names with special characters literally")
+    void escape() {
+        var names = ImmutableList.of("c+", "c+x", "a(b", "[z]", "q\\e", "$", "com");
+        var set = TopLevelDomainSet.of(names);
+        var pattern = Pattern.compile(set.toRegex());
+
+        for (var name : names) {
+            assertWithMessage(name)
+                    .that(pattern.matcher(name).matches())
+                    .isTrue();
+        }
+        assertThat(pattern.matcher("cc").matches()).isFalse();
+        assertThat(pattern.matcher("ab").matches()).isFalse();
+        assertThat(pattern.matcher("z").matches()).isFalse();
+        assertThat(pattern.matcher("").matches()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject names with dots")
+    void rejectDots() {
+        assertIllegalArgument(() -> TopLevelDomainSet.of(ImmutableList.of("co.uk")));
+        assertIllegalArgument(() -> TopLevelDomainSet.of(ImmutableList.of("")));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.testing.Assertions.assertIllegalState;
+import static io.spine.testing.Assertions.assertNpe;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("`TopLevelDomains` utility class should")
+class TopLevelDomainsTest extends UtilityClassTest<TopLevelDomains> {
+
+    TopLevelDomainsTest() {
+        super(TopLevelDomains.class);
+    }
+
+    @Test
+    @DisplayName("contain known top-level domains")
+    void known() {
+        assertThat(TopLevelDomains.contains("io")).isTrue();
+        assertThat(TopLevelDomains.contains("com")).isTrue();
+        assertThat(TopLevelDomains.contains("aero")).isTrue();
+        assertThat(TopLevelDomains.contains("рф")).isTrue();
+        assertThat(TopLevelDomains.contains("xn--p1ai")).isTrue();
+    }
+
+    @Test
+    @DisplayName("ignore the case of ASCII letters")
+    void ignoreCase() {
+        assertThat(TopLevelDomains.contains("COM")).isTrue();
+        assertThat(TopLevelDomains.contains("Io")).isTrue();
+    }
+
+    @Test
+    @DisplayName("not contain unknown names")
+    void unknown() {
+        assertThat(TopLevelDomains.contains("")).isFalse();
+        assertThat(TopLevelDomains.contains("comm")).isFalse();
+        assertThat(TopLevelDomains.contains("spine")).isFalse();
+        assertThat(TopLevelDomains.contains(".com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("look up a region of a sequence")
+    void region() {
+        var host = "spine.io";
+
+        assertThat(TopLevelDomains.contains(host, 6, 8)).isTrue();
+        assertThat(TopLevelDomains.contains(host, 0, 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("provide a regular expression matching the same names")
+    void regex() {
+        var pattern = Pattern.compile(TopLevelDomains.regex());
+
+        assertThat(pattern.matcher("com").matches()).isTrue();
+        assertThat(pattern.matcher("co").matches()).isTrue();
+        assertThat(pattern.matcher("comm").matches()).isFalse();
+        assertThat(pattern.matcher("xn--vermgensberater-ctb").matches()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject `null`")
+    void rejectNull() {
+        assertNpe(() -> TopLevelDomains.contains(null));
+    }
+
+    @Nested
+    @DisplayName("reload names")
+    class Reload {
+
+        @TempDir
+        @SuppressWarnings("PackageVisibleField") // Set by JUnit.
+        Path directory;
+
+        @AfterEach
+        void restoreBundled() {
+            TopLevelDomains.resetToBundled();
+        }
+
+        @Test
+        @DisplayName("from a file")
+        void fromFile() throws IOException {
+            var file = write("# Version 2022101800\nCOM\n\n  SPINE  \nXN--P1AI\n");
+
+            TopLevelDomains.reload(file);
+
+            assertThat(TopLevelDomains.contains("com")).isTrue();
+            assertThat(TopLevelDomains.contains("spine")).isTrue();
+            assertThat(TopLevelDomains.contains("xn--p1ai")).isTrue();
+            assertThat(TopLevelDomains.contains("io")).isFalse();
+            assertThat(InternetDomains.hasKnownTopLevelDomain("base.spine")).isTrue();
+        }
+
+        @Test
+        @DisplayName("restoring the bundled ones")
+        void resetToBundled() throws IOException {
+            TopLevelDomains.reload(write("spine"));
+            TopLevelDomains.resetToBundled();
+
+            assertThat(TopLevelDomains.contains("io")).isTrue();
+            assertThat(TopLevelDomains.contains("spine")).isFalse();
+        }
+
+        @Test
+        @SuppressWarnings("CheckReturnValue")
+        @DisplayName("keeping current names if the file is not valid")
+        void keepOnFailure() throws IOException {
+            assertIllegalState(() -> TopLevelDomains.reload(directory.resolve("missing.txt")));
+            assertIllegalArgument(() -> TopLevelDomains.reload(write("co.uk")));
+
+            assertThat(TopLevelDomains.contains("io")).isTrue();
+        }
+
+        @Test
+        @DisplayName("without readers seeing a partially loaded list")
+        void concurrently() throws Exception {
+            var first = write("com\nio");
+            var second = write("com\norg");
+            var stop = new AtomicBoolean();
+            var missed = new AtomicBoolean();
+            var reader = new Thread(() -> {
+                while (!stop.get()) {
+                    if (!TopLevelDomains.contains("com")) {
+                        missed.set(true);
+                    }
+                }
+            });
+            reader.start();
+            for (var i = 0; i < 200; i++) {
+                TopLevelDomains.reload(i % 2 == 0 ? first : second);
+            }
+            stop.set(true);
+            reader.join();
+
+            assertThat(missed.get()).isFalse();
+        }
+
+        private Path write(String content) throws IOException {
+            var file = Files.createTempFile(directory, "tlds", ".txt");
+            Files.writeString(file, content, UTF_8);
+            return file;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.testing.Assertions.assertNpe;
+
+@DisplayName("`TrustedValues` should")
+class TrustedValuesTest {
+
+    private static final ImmutableList<String> VALUES =
+            ImmutableList.of("a", "b", "", "c", "d", "", "e");
+
+    @Test
+    @DisplayName("create values without validating them")
+    void noValidation() {
+        var checked = new ArrayList<String>();
+        var values = trusted(VALUES, 0, checked);
+
+        assertThat(ImmutableList.copyOf(values)).hasSize(VALUES.size());
+        assertThat(checked).isEmpty();
+    }
+
+    @Test
+    @DisplayName("validate every n-th value starting with the first one")
+    void sampling() {
+        var checked = new ArrayList<String>();
+        var values = trusted(ImmutableList.of("a", "b", "c", "d", "e", "f", "g"), 3, checked);
+
+        Iterators.size(values);
+
+        assertThat(checked).containsExactly("a", "d", "g").inOrder();
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("throw when a sampled value is not valid")
+    void invalid() {
+        var values = trusted(VALUES, 2, new ArrayList<>());
+        for (var i = 0; i < 2; i++) {
+            values.next();
+        }
+
+        assertIllegalArgument(values::next);
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject `null` values")
+    void nullValue() {
+        var values = trusted(new ArrayList<>(Collections.singletonList(null)), 0,
+                             new ArrayList<>());
+
+        assertNpe(values::next);
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject a negative sample interval")
+    void negativeInterval() {
+        assertIllegalArgument(() -> trusted(VALUES, -1, new ArrayList<>()));
+    }
+
+    private static Iterator<String> trusted(Iterable<String> values,
+                                            int sampleInterval,
+                                            ArrayList<String> checked) {
+        return new TrustedValues<>(values.iterator(), value -> {
+            checked.add(value);
+            return !value.isEmpty();
+        }, String::toUpperCase, sampleInterval, "letter");
+    }
+}
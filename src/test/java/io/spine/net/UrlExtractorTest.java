@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`UrlExtractor` should")
+class UrlExtractorTest extends UtilityClassTest<UrlExtractor> {
+
+    /** The parts from which the lines of the generated files are made. */
+    private static final String[] PARTS = {
+            "GET ", "/index.html", " HTTP/1.1", "\"", "-", " ", "\t", "é", "日本", "😀",
+            "http://", "https://", "example.com", "пример.рф", "sub.spine.io", "a.b.co",
+            "192.168.0.1", ":8080", "/a/b?x=1&y=2#f", "user@", "info@spine.io", "foo", ".",
+            "\r", "\u0085", " "
+    };
+
+    UrlExtractorTest() {
+        super(UrlExtractor.class);
+    }
+
+    @Test
+    @DisplayName("find URLs at byte offsets in the file")
+    void byteOffsets(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("access.log");
+        var content = "1.2.3.4 - - [18/Oct/2026] \"GET /пример HTTP/1.1\" 200 "
+                + "\"https://spine.io/docs\"\n"
+                + "日本 see example.com\n";
+        Files.writeString(file, content);
+
+        var links = scan(file, 4 << 20);
+
+        assertThat(values(links)).containsExactly("1.2.3.4", "https://spine.io/docs",
+                                                  "example.com").inOrder();
+        var bytes = content.getBytes(UTF_8);
+        var url = links.get(1);
+        assertThat(new String(bytes, (int) url.start(), (int) (url.end() - url.start()), UTF_8))
+                .isEqualTo("https://spine.io/docs");
+        assertThat(links.get(2).start()).isEqualTo(bytes.length - "example.com\n".length());
+    }
+
+    @Test
+    @DisplayName("find the same URLs as the scanner in a file of many chunks")
+    void chunks(@TempDir Path directory) throws IOException {
+        var random = new Random(42);
+        var content = new StringBuilder();
+        for (var i = 0; i < 2_000; i++) {
+            var length = random.nextInt(10);
+            for (var j = 0; j < length; j++) {
+                content.append(PARTS[random.nextInt(PARTS.length)]);
+            }
+            content.append(random.nextInt(5) == 0 ? "\r\n" : "\n");
+        }
+        content.append("last.example.com\n");
+        var file = directory.resolve("crawl.log");
+        Files.writeString(file, content);
+
+        for (var chunkSize : new int[]{1, 64, 1000, 1 << 20}) {
+            var expected = AutolinkScanner.findUrls(content);
+            var actual = scan(file, chunkSize);
+
+            assertThat(values(actual)).containsExactlyElementsIn(values(expected))
+                                      .inOrder();
+            for (var k = 0; k < actual.size(); k++) {
+                var start = content.substring(0, (int) expected.get(k).start())
+                                   .getBytes(UTF_8).length;
+                assertThat(actual.get(k).start()).isEqualTo(start);
+                assertThat(actual.get(k).end() - start)
+                        .isEqualTo(actual.get(k).value().getBytes(UTF_8).length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("parse the found URLs")
+    void parse(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("urls.log");
+        Files.writeString(file, "https://spine.io/docs?page=2\nsee example.com\n");
+        var results = Collections.synchronizedList(new ArrayList<ParsedUrl>());
+
+        UrlExtractor.parse(file, results::add);
+
+        var specs = new ArrayList<String>();
+        for (var result : results) {
+            assertThat(result.succeeded()).isTrue();
+            specs.add(result.spec());
+        }
+        assertThat(specs).containsExactly("https://spine.io/docs?page=2", "example.com");
+    }
+
+    @Test
+    @DisplayName("scan an empty file")
+    void empty(@TempDir Path directory) throws IOException {
+        var file = Files.createFile(directory.resolve("empty.log"));
+
+        assertThat(scan(file, 64)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("throw `IllegalStateException` if the file cannot be read")
+    void missingFile(@TempDir Path directory) {
+        var file = directory.resolve("missing.log");
+
+        assertThrows(IllegalStateException.class, () -> UrlExtractor.scan(file, link -> {}));
+    }
+
+    private static List<Autolink> scan(Path file, int chunkSize) {
+        var result = Collections.synchronizedList(new ArrayList<Autolink>());
+        UrlExtractor.scan(file, ForkJoinPool.commonPool(), chunkSize, result::add);
+        result.sort(Comparator.comparingLong(Autolink::start));
+        return result;
+    }
+
+    private static List<String> values(List<Autolink> links) {
+        var result = new ArrayList<String>();
+        for (var link : links) {
+            result.add(link.value());
+        }
+        return result;
+    }
+}
@@ -98,6 +98,14 @@ class UrlPrinterTest extends UtilityClassTest<UrlPrinter> {
                                                       .build())
                            .build(),
                         "custom://" + HOST
+                ),
+                Arguments.of(
+                        Uri.newBuilder()
+                           .setHost(HOST)
+                           .setProtocol(Protocol.newBuilder()
+                                                .setSchema(Uri.Schema.UNDEFINED))
+                           .build(),
+                        HOST
                 )
         );
     }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`Utf8Text` should")
+class Utf8TextTest {
+
+    /** The bytes from which the texts are generated, biased to the edges of UTF-8 sequences. */
+    private static final int[] BYTES = {
+            'a', '.', '\n', 0x7F, 0x80, 0x8F, 0x90, 0x9F, 0xA0, 0xBF, 0xC0, 0xC1, 0xC2, 0xDF,
+            0xE0, 0xE1, 0xEC, 0xED, 0xEE, 0xEF, 0xF0, 0xF1, 0xF3, 0xF4, 0xF5, 0xFF
+    };
+
+    @Test
+    @DisplayName("read ASCII bytes as characters")
+    void ascii() {
+        var text = Utf8Text.of(ByteBuffer.wrap("see example.com".getBytes(UTF_8)));
+
+        assertThat(text.length()).isEqualTo(15);
+        assertThat(text.charAt(4)).isEqualTo('e');
+        assertThat(text.subSequence(4, 15).toString()).isEqualTo("example.com");
+        assertThat(text.byteOffset(15)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("decode bytes as the standard decoder does")
+    void decode() {
+        var random = new Random(42);
+        for (var i = 0; i < 20_000; i++) {
+            var bytes = new byte[random.nextInt(12)];
+            for (var j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte) BYTES[random.nextInt(BYTES.length)];
+            }
+            var expected = new String(bytes, UTF_8);
+
+            var text = Utf8Text.of(ByteBuffer.wrap(bytes));
+
+            assertWithMessage(expected)
+                    .that(text.toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("tell the offsets of the bytes of the characters")
+    void byteOffsets() {
+        var value = "a日本😀é.рф";
+        var text = Utf8Text.of(ByteBuffer.wrap(value.getBytes(UTF_8)));
+
+        for (var i = 0; i <= value.length(); i++) {
+            if (i < value.length() && Character.isLowSurrogate(value.charAt(i))) {
+                continue;
+            }
+            var expected = value.substring(0, i)
+                                .getBytes(UTF_8).length;
+            assertThat(text.byteOffset(i)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("tell the offsets of the bytes of the replaced characters")
+    void malformedOffsets() {
+        var bytes = new byte[]{'a', (byte) 0xF0, (byte) 0x90, (byte) 0x80, 'b', (byte) 0xFF, 'c'};
+        var text = Utf8Text.of(ByteBuffer.wrap(bytes));
+
+        assertThat(text.toString()).isEqualTo("a�b�c");
+        assertThat(text.byteOffset(2)).isEqualTo(4);
+        assertThat(text.byteOffset(4)).isEqualTo(6);
+        assertThat(text.byteOffset(5)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("require the offsets to be obtained in ascending order")
+    void ascending() {
+        var text = Utf8Text.of(ByteBuffer.wrap("é.рф".getBytes(UTF_8)));
+        text.byteOffset(2);
+
+        assertThrows(IllegalStateException.class, () -> text.byteOffset(1));
+    }
+}
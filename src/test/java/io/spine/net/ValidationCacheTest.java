@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`ValidationCache` should")
+class ValidationCacheTest {
+
+    @Test
+    @DisplayName("validate domain names")
+    void domains() {
+        var cache = ValidationCache.forDomains(128);
+        for (var name : new String[]{"spine.io", "spine", "-spine.io", "spine.io", "spine"}) {
+            assertThat(cache.isValid(name)).isEqualTo(InternetDomains.isValid(name));
+        }
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("validate email addresses")
+    void emails() {
+        var cache = ValidationCache.forEmailAddresses(128);
+        for (var value : new String[]{"user@spine.io", "user@", "user@spine.io"}) {
+            assertThat(cache.isValid(value)).isEqualTo(EmailAddresses.isValid(value));
+        }
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("cache the results of a custom check")
+    void custom() {
+        var cache = ValidationCache.of(InternetDomains::hasKnownTopLevelDomain, 16);
+
+        assertThat(cache.isValid("spine.io")).isTrue();
+        assertThat(cache.isValid("spine.unknown")).isFalse();
+        assertThat(cache.capacity()).isEqualTo(16);
+    }
+
+    @Test
+    @SuppressWarnings("CheckReturnValue")
+    @DisplayName("reject a capacity which is not positive")
+    void rejectCapacity() {
+        assertIllegalArgument(() -> ValidationCache.forDomains(-1));
+    }
+}
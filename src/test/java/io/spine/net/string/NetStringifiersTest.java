@@ -28,6 +28,8 @@ package io.spine.net.string;
 
 import io.spine.net.EmailAddress;
 import io.spine.net.InternetDomain;
+import io.spine.net.IpAddress;
+import io.spine.net.Uri;
 import io.spine.net.Url;
 import io.spine.string.Stringifier;
 import io.spine.string.StringifierRegistry;
@@ -41,6 +43,8 @@ import java.util.Optional;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.net.string.NetStringifiers.forEmailAddress;
 import static io.spine.net.string.NetStringifiers.forInternetDomain;
+import static io.spine.net.string.NetStringifiers.forIpAddress;
+import static io.spine.net.string.NetStringifiers.forUri;
 import static io.spine.net.string.NetStringifiers.forUrl;
 
 @DisplayName("`NetStringifiers` utility should")
@@ -54,8 +58,10 @@ class NetStringifiersTest extends UtilityClassTest<NetStringifiers> {
     @DisplayName("register stringifiers")
     void registration() {
         assertRegistered(forUrl(), Url.class);
+        assertRegistered(forUri(), Uri.class);
         assertRegistered(forEmailAddress(), EmailAddress.class);
         assertRegistered(forInternetDomain(), InternetDomain.class);
+        assertRegistered(forIpAddress(), IpAddress.class);
     }
 
     private static <T> void assertRegistered(Stringifier<T> stringifier, Class<T> cls) {
@@ -73,12 +79,25 @@ class NetStringifiersTest extends UtilityClassTest<NetStringifiers> {
             assertStringifier(Url.class, "https://spine.io/about");
         }
 
+        @Test
+        @DisplayName("`Uri`")
+        void uri() {
+            assertStringifier(Uri.class, "https://user@spine.io:8080/about?lang=en#team");
+        }
+
         @Test
         @DisplayName("`InternetDomain`")
         void internetDomain() {
             assertStringifier(InternetDomain.class, "spine.io");
         }
 
+        @Test
+        @DisplayName("`IpAddress`")
+        void ipAddress() {
+            assertStringifier(IpAddress.class, "192.0.2.1");
+            assertStringifier(IpAddress.class, "2001:db8::1");
+        }
+
         @Test
         @DisplayName("`EmailAddress`")
         void emailAddress() {